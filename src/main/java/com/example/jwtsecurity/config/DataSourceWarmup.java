@@ -0,0 +1,83 @@
+package com.example.jwtsecurity.config;
+
+import com.example.jwtsecurity.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 커넥션 풀을 최대 크기까지 채우고 인증 경로의 쿼리를 미리 실행합니다.
+ * <p>
+ * Hikari는 최소 유휴 커넥션을 백그라운드에서 천천히 채우므로, 배포 직후 첫 요청들이
+ * 커넥션 생성(TCP/TLS 연결, 인증)과 Hibernate 쿼리 계획 생성 비용을 떠안게 됩니다.
+ * ApplicationRunner는 시작 완료(readiness) 전에 실행되므로 트래픽을 받기 전에 이 비용을 치릅니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class DataSourceWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_USERNAME = "__warmup__";
+
+    private final List<HikariDataSource> pools;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final UserRepository userRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        // 복제본이 설정된 경우 primary와 복제본 풀 모두
+        List<HikariDataSource> targets = new ArrayList<>(pools);
+        replicaRoutingDataSource.ifAvailable(dataSource -> targets.addAll(dataSource.getReplicaPools()));
+
+        int opened = 0;
+        for (HikariDataSource pool : targets) {
+            opened += fill(pool);
+        }
+
+        // 로그인/요청 인증에서 쓰는 쿼리의 Hibernate 쿼리 계획과 드라이버 statement 캐시를 채움
+        for (int i = 0; i < opened; i++) {
+            userRepository.findPrincipalByUsername(WARMUP_USERNAME);
+            userRepository.existsByUsername(WARMUP_USERNAME);
+        }
+
+        log.info("Connection pool warmed up: pools={}, connections={}, took {} ms",
+                targets.size(), opened, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int fill(HikariDataSource pool) {
+        // 커넥션을 동시에 빌려 두어야 풀이 유휴 커넥션을 재사용하지 않고 새로 만듦
+        List<Connection> borrowed = new ArrayList<>(pool.getMaximumPoolSize());
+        try {
+            for (int i = 0; i < pool.getMaximumPoolSize(); i++) {
+                borrowed.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("Connection pool warm-up stopped after {} connections ({}): {}",
+                    borrowed.size(), pool.getPoolName(), e.getMessage());
+        } finally {
+            borrowed.forEach(DataSourceWarmup::closeQuietly);
+        }
+        return borrowed.size();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // 풀로 반환 실패는 풀이 처리
+        }
+    }
+}
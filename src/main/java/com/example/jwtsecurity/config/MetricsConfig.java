@@ -0,0 +1,135 @@
+package com.example.jwtsecurity.config;
+
+import com.example.jwtsecurity.filter.LoginRateLimitFilter;
+import com.example.jwtsecurity.service.LoginAttemptService;
+import com.example.jwtsecurity.service.PasswordHashExecutor;
+import com.example.jwtsecurity.service.TokenRevocationService;
+import com.example.jwtsecurity.service.UserDetailsCache;
+import com.example.jwtsecurity.service.UsernamePrefilter;
+import com.example.jwtsecurity.util.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * 캐시, 비밀번호 해싱 실행기, 토큰 폐기 목록이 이미 집계하고 있는 값을 게이지로 노출합니다.
+ * 스크랩 시점에만 값을 읽으므로 요청 경로에 추가 비용이 없습니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(UserDetailsCache userDetailsCache, VerifiedTokenCache verifiedTokenCache) {
+        return registry -> {
+            bindCacheStats(registry, "userDetails", userDetailsCache, UserDetailsCache::getStats);
+            Gauge.builder("cache.size", userDetailsCache, UserDetailsCache::getSize)
+                    .tag("cache", "userDetails")
+                    .register(registry);
+
+            bindCacheStats(registry, "verifiedToken", verifiedTokenCache, VerifiedTokenCache::getStats);
+            Gauge.builder("cache.size", verifiedTokenCache, VerifiedTokenCache::getSize)
+                    .tag("cache", "verifiedToken")
+                    .register(registry);
+            Gauge.builder("cache.estimated.bytes", verifiedTokenCache, VerifiedTokenCache::getEstimatedBytes)
+                    .tag("cache", "verifiedToken")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashExecutorMetrics(PasswordHashExecutor executor) {
+        return registry -> {
+            Gauge.builder("auth.password.executor.queue.depth", executor, PasswordHashExecutor::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("auth.password.executor.active", executor, PasswordHashExecutor::getActiveCount)
+                    .register(registry);
+            FunctionCounter.builder("auth.password.executor.completed", executor, PasswordHashExecutor::getCompletedCount)
+                    .register(registry);
+            FunctionCounter.builder("auth.password.executor.rejected", executor, PasswordHashExecutor::getRejectedCount)
+                    .register(registry);
+            Gauge.builder("auth.password.executor.queue.avg", executor, PasswordHashExecutor::getAverageQueueMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("auth.password.executor.execution.avg", executor, PasswordHashExecutor::getAverageExecutionMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder tokenRevocationMetrics(TokenRevocationService tokenRevocationService) {
+        return registry -> {
+            Gauge.builder("auth.revocation.filter.bits", tokenRevocationService, TokenRevocationService::getFilterBits)
+                    .register(registry);
+            Gauge.builder("auth.revocation.watermarks", tokenRevocationService, TokenRevocationService::getWatermarkCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder loginRateLimitMetrics(LoginRateLimitFilter loginRateLimitFilter) {
+        return registry -> {
+            Gauge.builder("auth.login.rate-limit.keys", loginRateLimitFilter, LoginRateLimitFilter::getTrackedIpCount)
+                    .tag("scope", "ip")
+                    .register(registry);
+            Gauge.builder("auth.login.rate-limit.keys", loginRateLimitFilter, LoginRateLimitFilter::getTrackedUsernameCount)
+                    .tag("scope", "username")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder usernamePrefilterMetrics(UsernamePrefilter usernamePrefilter) {
+        return registry -> {
+            Gauge.builder("auth.username-prefilter.bits", usernamePrefilter, UsernamePrefilter::getFilterBits)
+                    .register(registry);
+            FunctionCounter.builder("auth.username-prefilter.skipped", usernamePrefilter, UsernamePrefilter::getSkippedCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        return registry -> replicaRoutingDataSource.ifAvailable(dataSource -> {
+            Gauge.builder("db.replicas.healthy", dataSource, ReplicaRoutingDataSource::getHealthyCount)
+                    .register(registry);
+            FunctionCounter.builder("db.replicas.primary-fallbacks", dataSource, ReplicaRoutingDataSource::getPrimaryFallbackCount)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder loginLockoutMetrics(LoginAttemptService loginAttemptService) {
+        return registry -> {
+            Gauge.builder("auth.login.locked", loginAttemptService, LoginAttemptService::getLockedCount)
+                    .register(registry);
+            Gauge.builder("auth.login.lockout.pending", loginAttemptService, LoginAttemptService::getPendingCount)
+                    .register(registry);
+        };
+    }
+
+    // Micrometer의 CaffeineCacheMetrics와 같은 이름(cache.gets, cache.evictions)을 사용
+    // 미터는 대상 객체를 약한 참조로 보관하므로 람다가 아닌 캐시 빈 자체를 넘김
+    private static <T> void bindCacheStats(MeterRegistry registry, String cacheName, T cache,
+                                           Function<T, CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).hitCount())
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).missCount())
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> stats.apply(c).evictionCount())
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+}
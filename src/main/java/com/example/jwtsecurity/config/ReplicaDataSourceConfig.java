@@ -0,0 +1,97 @@
+package com.example.jwtsecurity.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica) DB로 보냅니다. app.datasource.replicas[0].jdbc-url이 있을 때만 활성화됩니다.
+ * <p>
+ * LazyConnectionDataSourceProxy는 첫 SQL 실행 시점에 실제 커넥션을 가져오므로, 그때 이미 설정된
+ * 트랜잭션의 readOnly 여부로 primary와 복제본 중 하나를 고릅니다. readOnly가 아닌 트랜잭션과
+ * 트랜잭션 밖의 쿼리는 primary로 갑니다. 복제본 선택과 상태 확인은 ReplicaRoutingDataSource가 맡습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas[0].jdbc-url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             ReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariConfig config = properties.getReplicas().get(i);
+            if (!StringUtils.hasText(config.getPoolName())) {
+                config.setPoolName("replica-" + i);
+            }
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 시작하고, 상태 확인에서 제외되도록 함
+            config.setInitializationFailTimeout(-1);
+            // 복제본 풀은 빈이 아니므로 Hikari 지표(hikaricp_connections_*)를 직접 연결
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, pools,
+                properties.getReplicaHealth().getMaxLag(), properties.getReplicaHealth().getLagQuery());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Data
+    public static class ReplicaProperties {
+
+        // 복제본별 Hikari 설정 (jdbc-url, username, password, maximum-pool-size 등)
+        private List<HikariConfig> replicas = new ArrayList<>();
+
+        private Health replicaHealth = new Health();
+
+        @Data
+        public static class Health {
+
+            // 이 시간(초)보다 뒤처진 복제본은 제외
+            private long maxLag = 10;
+
+            // 복제 지연(초)을 반환하는 쿼리 (예: pt-heartbeat 테이블 조회). 비어 있으면 연결 가능 여부만 확인
+            private String lagQuery;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.jwtsecurity.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 커넥션을 여러 복제본에 라운드 로빈으로 나눠 줍니다.
+ * <p>
+ * 주기적인 상태 확인에서 연결할 수 없거나 복제 지연이 max-lag를 넘은 복제본은 제외하고,
+ * 사용할 수 있는 복제본이 없으면 primary 커넥션을 돌려줍니다.
+ * 방금 쓴 데이터를 읽어야 하는 조회는 {@link #onPrimary(Supplier)}로 감싸 primary에서 읽습니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> pools, long maxLagSeconds, String lagQuery) {
+        this.primary = primary;
+        this.replicas = pools.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * 작업 안에서 실행되는 읽기 전용 조회를 복제본 대신 primary로 보냅니다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PRIMARY_REQUIRED.get() == null) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    return replica.pool.getConnection();
+                } catch (SQLException e) {
+                    replica.markDown(e.getMessage());
+                }
+            }
+            primaryFallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제본 라우팅은 풀에 설정된 계정만 사용합니다.");
+    }
+
+    /**
+     * 복제본 연결과 복제 지연을 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica-health.interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!StringUtils.hasText(lagQuery)) {
+                    replica.markUp();
+                    continue;
+                }
+                long lagSeconds = queryLag(connection);
+                if (lagSeconds > maxLagSeconds) {
+                    replica.markDown("replication lag " + lagSeconds + "s");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    public int getHealthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    public long getPrimaryFallbackCount() {
+        return primaryFallbacks.sum();
+    }
+
+    public List<HikariDataSource> getReplicaPools() {
+        return replicas.stream().map(replica -> replica.pool).toList();
+    }
+
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 결과가 없거나 NULL이면(복제 중단 등) 지연을 알 수 없으므로 제외
+            if (!resultSet.next()) {
+                return Long.MAX_VALUE;
+            }
+            long lagSeconds = resultSet.getLong(1);
+            return resultSet.wasNull() ? Long.MAX_VALUE : lagSeconds;
+        }
+    }
+
+    private static class Replica {
+
+        private final HikariDataSource pool;
+        private volatile boolean healthy = true;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Read replica {} is back in rotation", pool.getPoolName());
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Read replica {} removed from rotation: {}", pool.getPoolName(), reason);
+            }
+        }
+    }
+}
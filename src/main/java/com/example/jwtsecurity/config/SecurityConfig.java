@@ -1,7 +1,10 @@
 package com.example.jwtsecurity.config;
 
 import com.example.jwtsecurity.filter.JwtAuthenticationFilter;
+import com.example.jwtsecurity.filter.LoginRateLimitFilter;
+import com.example.jwtsecurity.util.AuthMetrics;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +15,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,18 +23,35 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
     
     @Value("${app.frontend.url}")
     private String frontendUrl;
     
+    // 0이면 시작 시 목표 지연시간에 맞춰 BCrypt 비용을 측정하여 결정
+    @Value("${app.password-hash.bcrypt-strength:0}")
+    private int bcryptStrength;
+    
+    @Value("${app.password-hash.target-millis:250}")
+    private long targetHashMillis;
+    
+    @Value("${app.password-hash.min-strength:10}")
+    private int minBcryptStrength;
+    
+    @Value("${app.password-hash.max-strength:14}")
+    private int maxBcryptStrength;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -40,11 +61,17 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
+                .requestMatchers("/.well-known/**").permitAll()
+                // 운영 환경에서는 management.server.port로 내부 포트에 분리하여 노출
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .requestMatchers("/").permitAll()
                 .requestMatchers("/static/**").permitAll()
                 .requestMatchers("/favicon.ico").permitAll()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
+            // 로그인 속도 제한은 인증 처리보다 먼저 실행
+            .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
@@ -64,9 +91,41 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * {id} 접두사로 알고리즘을 구분하는 위임 인코더입니다.
+     * 저장된 해시의 알고리즘이나 비용이 현재 설정과 다르면 로그인 성공 시
+     * {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}를 통해 다시 해싱됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthMetrics authMetrics) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : calibrateBcryptStrength();
+        log.info("Using BCrypt strength {}", strength);
+        
+        String idForEncode = "bcrypt";
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(idForEncode, new BCryptPasswordEncoder(strength));
+        
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두사가 없는 기존 해시는 BCrypt로 검증 (검증 후 접두사가 붙은 해시로 업그레이드됨)
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new TimedPasswordEncoder(passwordEncoder, authMetrics);
+    }
+    
+    private int calibrateBcryptStrength() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minBcryptStrength);
+        encoder.encode("warmup");
+        
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        
+        // 비용이 1 증가할 때마다 해싱 시간은 두 배가 됨
+        int strength = minBcryptStrength;
+        while (strength < maxBcryptStrength && elapsedMillis * 2 <= targetHashMillis) {
+            strength++;
+            elapsedMillis *= 2;
+        }
+        return strength;
     }
     
     @Bean
@@ -0,0 +1,31 @@
+package com.example.jwtsecurity.config;
+
+import com.example.jwtsecurity.util.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱/검증 시간을 기록하는 PasswordEncoder 래퍼입니다.
+ * 회원가입(encode)과 로그인(matches) 양쪽의 해싱 비용이 모두 이 인코더를 거칩니다.
+ */
+@RequiredArgsConstructor
+class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return authMetrics.timePasswordEncode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return authMetrics.timePasswordMatch(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
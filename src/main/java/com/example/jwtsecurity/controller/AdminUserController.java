@@ -0,0 +1,82 @@
+package com.example.jwtsecurity.controller;
+
+import com.example.jwtsecurity.dto.UserImportResult;
+import com.example.jwtsecurity.dto.UserImportSummary;
+import com.example.jwtsecurity.service.UserImportService;
+import com.example.jwtsecurity.service.UserImportService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminUserController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 일괄 가져오기. 처리한 묶음의 행별 결과를 NDJSON으로 바로 내려보내고, 마지막 줄에 {"summary": {...}}를 씁니다.
+     * 수만 건의 해싱은 비동기 요청 타임아웃보다 오래 걸리므로 요청 스레드에서 직접 응답에 씁니다.
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Format format = MediaType.parseMediaType(TEXT_CSV_VALUE)
+                .isCompatibleWith(MediaType.parseMediaType(request.getContentType())) ? Format.CSV : Format.NDJSON;
+        log.info("User import started ({})", format);
+
+        UserImportSummary summary = userImportService.importUsers(request.getInputStream(), format,
+                results -> writeChunk(response, results));
+        OutputStream out = open(response);
+        writeLine(out, Map.of("summary", summary));
+        out.flush();
+
+        log.info("User import finished: total={}, created={}, duplicate={}, invalid={}, took {} ms",
+                summary.getTotal(), summary.getCreated(), summary.getDuplicate(), summary.getInvalid(),
+                summary.getElapsedMillis());
+    }
+
+    // 첫 결과를 쓸 때 응답을 시작하여, 그 전에 실패하면 예외 처리기가 오류 응답을 쓸 수 있도록 함
+    private OutputStream open(HttpServletResponse response) throws IOException {
+        if (response.getContentType() == null) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        return response.getOutputStream();
+    }
+
+    private void writeChunk(HttpServletResponse response, List<UserImportResult> results) {
+        try {
+            OutputStream out = open(response);
+            for (UserImportResult result : results) {
+                writeLine(out, result);
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결이 끊기면 남은 행은 처리하지 않음 (이미 커밋된 묶음은 유지)
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+}
@@ -5,53 +5,81 @@ import com.example.jwtsecurity.dto.LoginRequest;
 import com.example.jwtsecurity.dto.SignupRequest;
 import com.example.jwtsecurity.entity.User;
 import com.example.jwtsecurity.service.AuthService;
+import com.example.jwtsecurity.service.PasswordHashExecutor;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
-@RequiredArgsConstructor
 @Slf4j
 @CrossOrigin(origins = "${app.frontend.url}", allowCredentials = "true")
 public class AuthController {
     
     private final AuthService authService;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final AsyncTaskExecutor taskExecutor;
+    
+    public AuthController(AuthService authService, PasswordHashExecutor passwordHashExecutor,
+                          @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor) {
+        this.authService = authService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.taskExecutor = taskExecutor;
+    }
     
+    // 해싱 풀(코어 수 크기)에서는 BCrypt 단계만 실행하고, 이어지는 DB 저장은 일반 작업 실행기에서 처리
     @PostMapping("/signup")
-    public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request) {
-        log.info("Signup request received for username: {}", request.getUsername());
-        AuthResponse response = authService.signup(request);
-        
-        if (response.isSuccess()) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.badRequest().body(response);
-        }
+    public CompletableFuture<ResponseEntity<AuthResponse>> signup(@Valid @RequestBody SignupRequest request) {
+        log.debug("Signup request received for username: {}", request.getUsername());
+        return passwordHashExecutor.submit(() -> authService.encodePassword(request.getPassword()))
+                .thenApplyAsync(encodedPassword -> toResponseEntity(authService.signup(request, encodedPassword)),
+                        taskExecutor);
     }
     
+    // 쿠키는 응답 객체를 다른 스레드에서 건드리지 않도록 ResponseEntity 헤더로 반환 (디스패치 스레드에서 기록됨)
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, 
-                                            HttpServletResponse response) {
-        log.info("Login request received for username: {}", request.getUsername());
-        AuthResponse authResponse = authService.login(request, response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        log.debug("Login request received for username: {}", request.getUsername());
+        return passwordHashExecutor.submit(() -> authService.authenticate(request))
+                .thenApplyAsync(this::completeLogin, taskExecutor);
+    }
+    
+    private ResponseEntity<AuthResponse> completeLogin(AuthService.LoginAttempt attempt) {
+        if (attempt.user() == null) {
+            return ResponseEntity.badRequest().body(attempt.failure());
+        }
+        AuthService.LoginResult result = authService.completeLogin(attempt.user());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, result.cookies().toArray(String[]::new))
+                .body(result.response());
+    }
+    
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(HttpServletRequest request, HttpServletResponse response) {
+        AuthResponse authResponse = authService.refresh(request, response);
         
         if (authResponse.isSuccess()) {
             return ResponseEntity.ok(authResponse);
         } else {
-            return ResponseEntity.badRequest().body(authResponse);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(authResponse);
         }
     }
     
     @PostMapping("/logout")
-    public ResponseEntity<AuthResponse> logout(HttpServletResponse response) {
-        log.info("Logout request received");
-        AuthResponse authResponse = authService.logout(response);
+    public ResponseEntity<AuthResponse> logout(HttpServletRequest request, HttpServletResponse response) {
+        log.debug("Logout request received");
+        AuthResponse authResponse = authService.logout(request, response);
         return ResponseEntity.ok(authResponse);
     }
     
@@ -87,4 +115,12 @@ public class AuthController {
                 .build()
         );
     }
+    
+    private ResponseEntity<AuthResponse> toResponseEntity(AuthResponse response) {
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 }
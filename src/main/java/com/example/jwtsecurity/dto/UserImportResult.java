@@ -0,0 +1,27 @@
+package com.example.jwtsecurity.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 가져오기의 행별 결과입니다. line은 요청 본문의 줄 번호(1부터)입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+    
+    private long line;
+    private String username;
+    private Status status;
+    private String message;
+    
+    public enum Status {
+        CREATED, DUPLICATE, INVALID
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.jwtsecurity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 가져오기 응답의 마지막 줄에 붙는 집계입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportSummary {
+    
+    private long total;
+    private long created;
+    private long duplicate;
+    private long invalid;
+    private long elapsedMillis;
+}
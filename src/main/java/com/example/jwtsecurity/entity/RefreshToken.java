@@ -0,0 +1,66 @@
+package com.example.jwtsecurity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰입니다. 원본 토큰은 저장하지 않고 SHA-256 해시만 저장합니다.
+ * 같은 로그인에서 회전된 토큰들은 같은 familyId를 가지며, 재사용이 감지되면 패밀리 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder.Default
+    private boolean revoked = false;
+
+    // 회전으로 폐기된 시각 (로그아웃 등으로 폐기되면 null)
+    @Column(name = "replaced_at")
+    private LocalDateTime replacedAt;
+
+    // 회전 후 유예 시간 안에 다시 제출되어 새 토큰을 이미 한 번 발급했는지 여부
+    @Column(name = "grace_reissued")
+    @Builder.Default
+    private boolean graceReissued = false;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
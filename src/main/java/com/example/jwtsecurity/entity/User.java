@@ -1,5 +1,6 @@
 package com.example.jwtsecurity.entity;
 
+import com.example.jwtsecurity.service.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,21 +15,33 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+}, indexes = {
+        // 주기적인 동기화 조회(토큰 폐기 기준 시각, 계정 잠금)가 테이블 전체를 읽지 않도록 username까지 포함한 커버링 인덱스
+        @Index(name = "idx_users_tokens_valid_after", columnList = "tokens_valid_after, username"),
+        @Index(name = "idx_users_locked_until", columnList = "locked_until, username")
+})
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User implements UserDetails {
     
+    // 회원가입 시 중복 판별에 사용하는 유니크 제약조건 이름
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(unique = true, nullable = false, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
     
-    @Column(unique = true, nullable = false, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
     
     @Column(nullable = false)
@@ -53,6 +66,18 @@ public class User implements UserDetails {
     @Builder.Default
     private boolean credentialsNonExpired = true;
     
+    // 연속 로그인 실패 횟수와 잠금 해제 시각 (LoginAttemptService가 주기적으로 일괄 기록)
+    @Column(name = "failed_login_attempts")
+    @Builder.Default
+    private int failedLoginAttempts = 0;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    // 이 시각(초 단위)까지 발급된 액세스 토큰은 모두 폐기된 것으로 처리
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+    
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
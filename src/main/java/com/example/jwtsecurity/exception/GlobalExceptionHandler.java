@@ -1,10 +1,14 @@
 package com.example.jwtsecurity.exception;
 
 import com.example.jwtsecurity.dto.ErrorResponse;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.example.jwtsecurity.util.SecurityLogSampler;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -19,9 +23,13 @@ import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
     
+    private final AuthMetrics authMetrics;
+    private final SecurityLogSampler securityLogSampler;
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -39,7 +47,8 @@ public class GlobalExceptionHandler {
         response.put("errors", errors);
         response.put("timestamp", System.currentTimeMillis());
         
-        log.warn("Validation error at {}: {}", request.getRequestURI(), errors);
+        securityLogSampler.warn(log, "request.validation", "Validation error at {}: {}", request.getRequestURI(), errors);
+        authMetrics.recordError("validation");
         
         return ResponseEntity.badRequest().body(response);
     }
@@ -48,7 +57,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleExpiredJwtException(
             ExpiredJwtException ex, HttpServletRequest request) {
         
-        log.warn("Expired JWT token: {}", ex.getMessage());
+        securityLogSampler.warn(log, "jwt.expired", "Expired JWT token: {}", ex.getMessage());
+        authMetrics.recordError("expired_token");
         
         ErrorResponse response = ErrorResponse.of(
                 "토큰이 만료되었습니다. 다시 로그인해 주세요.",
@@ -64,7 +74,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleJwtException(
             JwtException ex, HttpServletRequest request) {
         
-        log.warn("JWT error: {}", ex.getMessage());
+        securityLogSampler.warn(log, "jwt.invalid", "JWT error: {}", ex.getMessage());
+        authMetrics.recordError("invalid_token");
         
         ErrorResponse response = ErrorResponse.of(
                 "유효하지 않은 토큰입니다.",
@@ -80,7 +91,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAuthenticationException(
             AuthenticationException ex, HttpServletRequest request) {
         
-        log.warn("Authentication error: {}", ex.getMessage());
+        securityLogSampler.warn(log, "auth.error", "Authentication error: {}", ex.getMessage());
+        authMetrics.recordError("authentication");
         
         ErrorResponse response = ErrorResponse.of(
                 "인증에 실패했습니다.",
@@ -96,7 +108,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleUsernameNotFoundException(
             UsernameNotFoundException ex, HttpServletRequest request) {
         
-        log.warn("User not found: {}", ex.getMessage());
+        securityLogSampler.warn(log, "auth.user-not-found", "User not found: {}", ex.getMessage());
+        authMetrics.recordError("user_not_found");
         
         ErrorResponse response = ErrorResponse.of(
                 "사용자를 찾을 수 없습니다.",
@@ -108,11 +121,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
     
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        
+        securityLogSampler.warn(log, "request.rejected", "Too many requests at {}: {}", request.getRequestURI(), ex.getMessage());
+        authMetrics.recordError("too_many_requests");
+        
+        ErrorResponse response = ErrorResponse.of(
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+    
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handlePayloadTooLargeException(
+            PayloadTooLargeException ex, HttpServletRequest request) {
+        
+        securityLogSampler.warn(log, "request.too-large", "Payload too large at {}: {}", request.getRequestURI(), ex.getMessage());
+        authMetrics.recordError("payload_too_large");
+        
+        ErrorResponse response = ErrorResponse.of(
+                ex.getMessage(),
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "Payload Too Large",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+    
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportException(
+            InvalidImportException ex, HttpServletRequest request) {
+        
+        securityLogSampler.warn(log, "user-import.invalid", "Invalid user import at {}: {}", request.getRequestURI(), ex.getMessage());
+        authMetrics.recordError("invalid_import");
+        
+        ErrorResponse response = ErrorResponse.of(
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.badRequest().body(response);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, HttpServletRequest request) {
         
         log.error("Unexpected error: ", ex);
+        authMetrics.recordError("internal");
         
         ErrorResponse response = ErrorResponse.of(
                 "서버에서 오류가 발생했습니다.",
@@ -0,0 +1,11 @@
+package com.example.jwtsecurity.exception;
+
+/**
+ * 사용자 가져오기 본문 형식이 올바르지 않을 때 발생합니다. (예: CSV 헤더 누락, 닫히지 않은 큰따옴표)
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jwtsecurity.exception;
+
+/**
+ * 요청 본문이 허용 크기를 넘을 때 발생합니다.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.jwtsecurity.filter;
 
 import com.example.jwtsecurity.service.CustomUserDetailsService;
+import com.example.jwtsecurity.service.TokenRevocationService;
+import com.example.jwtsecurity.util.AuthMetrics;
 import com.example.jwtsecurity.util.CookieUtil;
 import com.example.jwtsecurity.util.JwtUtil;
+import com.example.jwtsecurity.util.SecurityLogSampler;
+import com.example.jwtsecurity.util.ValidatedToken;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,41 +30,73 @@ import java.util.Optional;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    // 검증된 토큰을 이후 처리(로그아웃 시 폐기 등)에서 다시 파싱하지 않도록 요청 속성에 저장
+    public static final String VALIDATED_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".VALIDATED_TOKEN";
+    
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
     private final CookieUtil cookieUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+    private final SecurityLogSampler securityLogSampler;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
         try {
-            Optional<String> jwtToken = cookieUtil.getJwtFromCookie(request);
+            Optional<String> jwtToken = authMetrics.timeCookieRead(() -> cookieUtil.getJwtFromCookie(request));
             
             if (jwtToken.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String token = jwtToken.get();
-                String username = jwtUtil.extractUsername(token);
+                // 서명 검증과 파싱은 요청당 한 번만 수행
+                ValidatedToken validatedToken = jwtUtil.validate(jwtToken.get());
+                String username = validatedToken.subject();
                 
-                if (username != null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (username != null && tokenRevocationService.isRevoked(validatedToken)) {
+                    // 폐기된 토큰은 인증하지 않고 쿠키 삭제
+                    authMetrics.recordTokenFailure("revoked");
+                    cookieUtil.deleteJwtCookie(response);
+                } else if (username != null) {
+                    UserDetails userDetails = resolveUserDetails(validatedToken);
                     
-                    if (jwtUtil.validateToken(token, userDetails)) {
+                    if (jwtUtil.validateToken(validatedToken, userDetails) && isAccountUsable(userDetails)) {
                         UsernamePasswordAuthenticationToken authToken = 
                             new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
+                        request.setAttribute(VALIDATED_TOKEN_ATTRIBUTE, validatedToken);
                     }
                 }
             }
         } catch (ExpiredJwtException e) {
-            log.warn("JWT token is expired: {}", e.getMessage());
-            // 만료된 토큰의 경우 쿠키 삭제
+            // 만료된 토큰의 경우 쿠키 삭제 (경고 로그는 JwtUtil에서 남김)
             cookieUtil.deleteJwtCookie(response);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 토큰 파싱 실패는 JwtUtil에서 사유별로 로그와 메트릭을 이미 남김
         } catch (Exception e) {
-            log.error("Cannot set user authentication: {}", e.getMessage());
+            securityLogSampler.warn(log, "auth.filter", "Cannot set user authentication: {}", e.getMessage());
+            authMetrics.recordTokenFailure("error");
         }
         
         filterChain.doFilter(request, response);
     }
+    
+    private UserDetails resolveUserDetails(ValidatedToken validatedToken) {
+        // 무상태 모드에서는 토큰 클레임으로 사용자 정보를 구성하여 DB 조회를 생략
+        if (jwtUtil.isStatelessEnabled()) {
+            UserDetails user = jwtUtil.toUser(validatedToken);
+            if (user != null) {
+                return user;
+            }
+        }
+        return userDetailsService.loadUserByUsername(validatedToken.subject());
+    }
+    
+    private boolean isAccountUsable(UserDetails userDetails) {
+        return userDetails.isEnabled()
+                && userDetails.isAccountNonExpired()
+                && userDetails.isAccountNonLocked()
+                && userDetails.isCredentialsNonExpired();
+    }
 }
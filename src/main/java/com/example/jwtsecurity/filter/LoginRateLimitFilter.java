@@ -0,0 +1,222 @@
+package com.example.jwtsecurity.filter;
+
+import com.example.jwtsecurity.exception.PayloadTooLargeException;
+import com.example.jwtsecurity.exception.TooManyRequestsException;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.example.jwtsecurity.util.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청을 클라이언트 IP와 사용자명별로 속도 제한합니다.
+ * <p>
+ * 로그인은 시도마다 BCrypt 비교가 필요하므로, 크리덴셜 스터핑 트래픽이 해싱 실행기나
+ * 사용자 조회에 도달하기 전에 이 필터에서 429(Retry-After)로 거부합니다.
+ * 프록시 뒤에서 실행할 때는 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 제한됩니다.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    // 로그인 요청 본문은 작으므로 이보다 큰 본문은 413으로 거부 (공백 등으로 부풀려 사용자명 제한을 피하지 못하도록)
+    static final int MAX_BODY_BYTES = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    @Value("${app.rate-limit.login.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.login.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.rate-limit.login.ip.refill-interval:3000}")
+    private long ipRefillInterval;
+
+    @Value("${app.rate-limit.login.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${app.rate-limit.login.username.refill-interval:12000}")
+    private long usernameRefillInterval;
+
+    @Value("${app.rate-limit.login.max-keys:100000}")
+    private long maxKeys;
+
+    private RateLimiter ipLimiter;
+    private RateLimiter usernameLimiter;
+
+    public LoginRateLimitFilter(ObjectMapper objectMapper, AuthMetrics authMetrics,
+                                @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.objectMapper = objectMapper;
+        this.authMetrics = authMetrics;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @PostConstruct
+    public void init() {
+        ipLimiter = new RateLimiter(ipCapacity, ipRefillInterval, maxKeys);
+        usernameLimiter = new RateLimiter(usernameCapacity, usernameRefillInterval, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equals(request.getMethod())
+                || !LOGIN_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(request, response, "ip", waitNanos);
+            return;
+        }
+
+        // 선언된 길이가 한도를 넘으면 본문을 읽지 않고 거부
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            rejectTooLarge(request, response);
+            return;
+        }
+
+        // 사용자명을 읽기 위해 본문을 한도까지만 미리 읽고, 컨트롤러에는 같은 내용을 다시 제공
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            // 길이 없이(chunked) 보낸 큰 본문
+            rejectTooLarge(request, response);
+            return;
+        }
+
+        String username = extractUsername(body);
+        if (username != null) {
+            waitNanos = usernameLimiter.tryAcquire(username);
+            if (waitNanos > 0) {
+                reject(request, response, "username", waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String extractUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).path("username");
+            // 대소문자만 바꾼 시도로 제한을 우회하지 못하도록 정규화
+            return username.isTextual() ? username.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러의 요청 검증에서 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String scope, long waitNanos) {
+        authMetrics.recordLoginRateLimited(scope);
+        long nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + nanosPerSecond - 1) / nanosPerSecond);
+        // 응답 형식(429, Retry-After, ErrorResponse)은 GlobalExceptionHandler에서 처리
+        handlerExceptionResolver.resolveException(request, response, null,
+                new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds));
+    }
+
+    private void rejectTooLarge(HttpServletRequest request, HttpServletResponse response) {
+        authMetrics.recordLoginRateLimited("body_size");
+        handlerExceptionResolver.resolveException(request, response, null,
+                new PayloadTooLargeException("로그인 요청 본문이 너무 큽니다."));
+    }
+
+    public long getTrackedIpCount() {
+        return ipLimiter.getKeyCount();
+    }
+
+    public long getTrackedUsernameCount() {
+        return usernameLimiter.getKeyCount();
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // 본문은 이미 메모리에 있으므로 바로 읽을 수 있다고 알림
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jwtsecurity.repository;
+
+import com.example.jwtsecurity.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("select t.jti from RevokedToken t where t.createdAt >= :since and t.expiresAt > :now")
+    List<String> findActiveJtisCreatedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * 블룸 필터 양성일 때의 확인 조회입니다. 상속한 existsById는 읽기 전용 트랜잭션이라 복제본으로 가므로,
+     * 방금 로그아웃한 토큰을 복제 지연 동안 놓치지 않도록 트랜잭션 없이 primary에서 조회합니다.
+     */
+    @Query("select count(t) > 0 from RevokedToken t where t.jti = :jti")
+    boolean existsOnPrimary(@Param("jti") String jti);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,14 @@
+package com.example.jwtsecurity.repository;
+
+import com.example.jwtsecurity.entity.User;
+
+import java.util.List;
+
+/**
+ * 일괄 가져오기한 사용자를 JDBC 배치로 저장합니다.
+ * id가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 못하므로 JDBC로 직접 실행합니다.
+ */
+public interface UserImportRepository {
+
+    int[] batchInsert(List<User> users);
+}
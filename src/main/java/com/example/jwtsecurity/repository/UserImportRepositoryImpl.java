@@ -0,0 +1,29 @@
+package com.example.jwtsecurity.repository;
+
+import com.example.jwtsecurity.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserImportRepositoryImpl implements UserImportRepository {
+
+    private static final String INSERT_USER_SQL =
+            "insert into users (username, email, password, name, role, enabled, account_non_expired, "
+                    + "account_non_locked, credentials_non_expired, failed_login_attempts, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] batchInsert(List<User> users) {
+        List<Object[]> batchArgs = users.stream()
+                .map(user -> new Object[]{user.getUsername(), user.getEmail(), user.getPassword(), user.getName(),
+                        user.getRole().name(), user.isEnabled(), user.isAccountNonExpired(), user.isAccountNonLocked(),
+                        user.isCredentialsNonExpired(), user.getFailedLoginAttempts(), user.getCreatedAt(),
+                        user.getUpdatedAt()})
+                .toList();
+        return jdbcTemplate.batchUpdate(INSERT_USER_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.jwtsecurity.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 로그인 실패 횟수와 잠금 상태를 JDBC 배치로 일괄 기록합니다.
+ * 실패 시도마다 UPDATE를 실행하지 않도록 LoginAttemptService가 모아 둔 변경을 한 번에 반영합니다.
+ */
+public interface UserLockoutRepository {
+
+    int[] batchUpdateLockout(Collection<LockoutState> states);
+
+    record LockoutState(String username, int failedLoginAttempts, LocalDateTime lockedUntil) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jwtsecurity.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserLockoutRepositoryImpl implements UserLockoutRepository {
+
+    private static final String UPDATE_LOCKOUT_SQL =
+            "update users set failed_login_attempts = ?, locked_until = ? where username = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] batchUpdateLockout(Collection<LockoutState> states) {
+        List<Object[]> batchArgs = states.stream()
+                .map(state -> new Object[]{state.failedLoginAttempts(), state.lockedUntil(), state.username()})
+                .toList();
+        return jdbcTemplate.batchUpdate(UPDATE_LOCKOUT_SQL, batchArgs);
+    }
+}
@@ -1,19 +1,130 @@
 package com.example.jwtsecurity.repository;
 
+import com.example.jwtsecurity.entity.Role;
 import com.example.jwtsecurity.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserLockoutRepository, UserImportRepository {
     
     Optional<User> findByUsername(String username);
     
+    /**
+     * 인증에 필요한 컬럼만 조회합니다. 엔티티를 영속성 컨텍스트에 올리지 않으므로
+     * 스냅샷 복사와 dirty checking 비용이 없습니다.
+     * 트랜잭션(과 커넥션 점유)은 이 쿼리 하나로 끝나며, 복제본이 설정되어 있으면 복제본에서 읽습니다.
+     */
+    @Query("select u.id as id, u.username as username, u.email as email, u.password as password, u.name as name, "
+            + "u.role as role, u.enabled as enabled, u.accountNonExpired as accountNonExpired, "
+            + "u.accountNonLocked as accountNonLocked, u.credentialsNonExpired as credentialsNonExpired "
+            + "from User u where u.username = :username")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Transactional(readOnly = true)
+    Optional<AuthPrincipal> findPrincipalByUsername(@Param("username") String username);
+    
+    /**
+     * 요청 인증용 사용자 조회입니다. 반환된 User는 준영속 상태이며 인증 외 컬럼(생성/수정 시각, 잠금 상태 등)은 비어 있습니다.
+     */
+    default Optional<User> findAuthUserByUsername(String username) {
+        return findPrincipalByUsername(username).map(AuthPrincipal::toUser);
+    }
+    
     Optional<User> findByEmail(String email);
     
+    @Transactional(readOnly = true)
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    @Query("select u.username as username, u.tokensValidAfter as tokensValidAfter from User u where u.tokensValidAfter >= :since")
+    List<TokenWatermark> findTokenWatermarksSince(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("update User u set u.tokensValidAfter = :validAfter where u.username = :username")
+    int updateTokensValidAfter(@Param("username") String username, @Param("validAfter") LocalDateTime validAfter);
+    
+    @Query("select u.username as username, u.lockedUntil as lockedUntil from User u where u.lockedUntil > :now")
+    List<LockedUser> findLockedUsers(@Param("now") LocalDateTime now);
+    
+    @Query("select u.id as id, u.username as username from User u where u.id > :afterId order by u.id")
+    List<UsernameRow> findUsernamesAfter(@Param("afterId") long afterId, Limit limit);
+    
+    // 일괄 가져오기의 중복 확인용. 방금 가입한 사용자도 놓치지 않도록 readOnly로 두지 않아 primary에서 읽음
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+    
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    interface AuthPrincipal {
+        Long getId();
+        
+        String getUsername();
+        
+        String getEmail();
+        
+        String getPassword();
+        
+        String getName();
+        
+        Role getRole();
+        
+        boolean isEnabled();
+        
+        boolean isAccountNonExpired();
+        
+        boolean isAccountNonLocked();
+        
+        boolean isCredentialsNonExpired();
+        
+        default User toUser() {
+            return User.builder()
+                    .id(getId())
+                    .username(getUsername())
+                    .email(getEmail())
+                    .password(getPassword())
+                    .name(getName())
+                    .role(getRole())
+                    .enabled(isEnabled())
+                    .accountNonExpired(isAccountNonExpired())
+                    .accountNonLocked(isAccountNonLocked())
+                    .credentialsNonExpired(isCredentialsNonExpired())
+                    // 조회하지 않은 컬럼이 기본값(현재 시각)으로 보이지 않도록 비워 둠
+                    .createdAt(null)
+                    .updatedAt(null)
+                    .build();
+        }
+    }
+    
+    interface TokenWatermark {
+        String getUsername();
+        
+        LocalDateTime getTokensValidAfter();
+    }
+    
+    interface LockedUser {
+        String getUsername();
+        
+        LocalDateTime getLockedUntil();
+    }
+    
+    interface UsernameRow {
+        Long getId();
+        
+        String getUsername();
+    }
 }
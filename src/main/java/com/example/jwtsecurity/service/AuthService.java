@@ -1,16 +1,25 @@
 package com.example.jwtsecurity.service;
 
+import com.example.jwtsecurity.config.ReplicaRoutingDataSource;
 import com.example.jwtsecurity.dto.AuthResponse;
 import com.example.jwtsecurity.dto.LoginRequest;
 import com.example.jwtsecurity.dto.SignupRequest;
 import com.example.jwtsecurity.entity.Role;
 import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.filter.JwtAuthenticationFilter;
 import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
 import com.example.jwtsecurity.util.CookieUtil;
 import com.example.jwtsecurity.util.JwtUtil;
+import com.example.jwtsecurity.util.SecurityLogSampler;
+import com.example.jwtsecurity.util.ValidatedToken;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,7 +27,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -30,34 +41,42 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final CookieUtil cookieUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+    private final SecurityLogSampler securityLogSampler;
+    private final LoginAttemptService loginAttemptService;
+    private final UsernamePrefilter usernamePrefilter;
     
-    @Transactional
-    public AuthResponse signup(SignupRequest request) {
-        // 중복 검사
-        if (userRepository.existsByUsername(request.getUsername())) {
-            return AuthResponse.builder()
-                    .success(false)
-                    .message("이미 존재하는 사용자명입니다.")
-                    .build();
-        }
-        
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return AuthResponse.builder()
-                    .success(false)
-                    .message("이미 존재하는 이메일입니다.")
-                    .build();
-        }
-        
-        // 사용자 생성
+    /**
+     * 중복 여부를 미리 조회하지 않고 username/email 유니크 제약조건으로 판별합니다.
+     * INSERT 한 번으로 끝나며 동시 가입 요청에서도 중복이 정확히 걸러집니다.
+     * 비밀번호 해싱은 호출한 쪽이 PasswordHashExecutor에서 {@link #encodePassword(String)}로 미리 수행합니다.
+     */
+    public AuthResponse signup(SignupRequest request, String encodedPassword) {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .role(Role.USER)
                 .build();
         
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // username/email 중복이 아닌 무결성 위반(NOT NULL, 길이 등)은 그대로 전파
+            String message = conflictMessage(e, request);
+            if (message == null) {
+                throw e;
+            }
+            return AuthResponse.builder()
+                    .success(false)
+                    .message(message)
+                    .build();
+        }
+        usernamePrefilter.add(savedUser.getUsername());
         log.info("User registered successfully: {}", savedUser.getUsername());
         
         AuthResponse.UserInfo userInfo = AuthResponse.UserInfo.builder()
@@ -75,62 +94,168 @@ public class AuthService {
                 .build();
     }
     
-    public AuthResponse login(LoginRequest request, HttpServletResponse response) {
+    public String encodePassword(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+    
+    /**
+     * 로그인의 인증 단계(잠금 확인, 사용자 조회, BCrypt 비교)입니다. PasswordHashExecutor에서 실행되며,
+     * 토큰 발급과 응답 쓰기는 {@link #completeLogin(User)}에서 해싱 풀 밖으로 넘깁니다.
+     */
+    public LoginAttempt authenticate(LoginRequest request) {
+        // 잠긴 계정은 사용자 조회와 비밀번호 비교 없이 거부
+        if (loginAttemptService.isLocked(request.getUsername())) {
+            authMetrics.recordLoginFailure("locked");
+            return LoginAttempt.failed("로그인 시도가 너무 많아 계정이 잠겼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        
         try {
-            // 인증 수행
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getUsername(),
                             request.getPassword()
                     )
             );
-            
-            User user = (User) authentication.getPrincipal();
-            
-            // JWT 토큰 생성
-            String token = jwtUtil.generateToken(user);
-            
-            // HttpOnly 쿠키에 토큰 저장
-            cookieUtil.addJwtCookie(response, token);
-            
-            log.info("User logged in successfully: {}", user.getUsername());
-            
-            AuthResponse.UserInfo userInfo = AuthResponse.UserInfo.builder()
-                    .id(user.getId())
-                    .username(user.getUsername())
-                    .email(user.getEmail())
-                    .name(user.getName())
-                    .role(user.getRole().name())
-                    .build();
-            
-            return AuthResponse.builder()
-                    .success(true)
-                    .message("로그인에 성공했습니다.")
-                    .user(userInfo)
-                    .build();
+            loginAttemptService.recordSuccess(request.getUsername());
+            return new LoginAttempt((User) authentication.getPrincipal(), null);
             
         } catch (BadCredentialsException e) {
-            log.warn("Failed login attempt for username: {}", request.getUsername());
-            return AuthResponse.builder()
-                    .success(false)
-                    .message("사용자명 또는 비밀번호가 올바르지 않습니다.")
-                    .build();
+            securityLogSampler.warn(log, "login.bad-credentials", "Failed login attempt for username: {}", request.getUsername());
+            authMetrics.recordLoginFailure("bad_credentials");
+            loginAttemptService.recordFailure(request.getUsername());
+            return LoginAttempt.failed("사용자명 또는 비밀번호가 올바르지 않습니다.");
         } catch (AuthenticationException e) {
-            log.warn("Authentication failed for username: {}", request.getUsername());
+            securityLogSampler.warn(log, "login.failed", "Authentication failed for username: {}", request.getUsername());
+            authMetrics.recordLoginFailure("authentication");
+            return LoginAttempt.failed("인증에 실패했습니다.");
+        }
+    }
+    
+    /**
+     * 인증된 사용자에게 액세스/리프레시 토큰을 발급하고 Set-Cookie 헤더 값을 만듭니다.
+     * 리프레시 토큰 저장은 짧은 트랜잭션 하나로 끝나며, 쿠키는 호출한 쪽이 응답 헤더로 씁니다.
+     */
+    public LoginResult completeLogin(User user) {
+        String token = jwtUtil.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user);
+        List<String> cookies = authMetrics.timeCookieWrite(() -> List.of(
+                cookieUtil.jwtCookieHeader(token),
+                cookieUtil.refreshCookieHeader(refreshToken)));
+        
+        log.debug("User logged in successfully: {}", user.getUsername());
+        
+        return new LoginResult(AuthResponse.builder()
+                .success(true)
+                .message("로그인에 성공했습니다.")
+                .user(toUserInfo(user))
+                .build(), cookies);
+    }
+    
+    private String conflictMessage(DataIntegrityViolationException e, SignupRequest request) {
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            String constraintName = cve.getConstraintName().toLowerCase();
+            if (constraintName.contains(User.UK_USERNAME)) {
+                return "이미 존재하는 사용자명입니다.";
+            }
+            if (constraintName.contains(User.UK_EMAIL)) {
+                return "이미 존재하는 이메일입니다.";
+            }
+        }
+        // 제약조건 이름으로 구분할 수 없는 경우(예: 이전 스키마의 자동 생성 이름)에만 추가 조회하며,
+        // 방금 충돌한 행이 아직 복제되지 않았을 수 있으므로 primary에서 확인
+        return ReplicaRoutingDataSource.onPrimary(() -> {
+            if (userRepository.existsByUsername(request.getUsername())) {
+                return "이미 존재하는 사용자명입니다.";
+            }
+            if (userRepository.existsByEmail(request.getEmail())) {
+                return "이미 존재하는 이메일입니다.";
+            }
+            return null;
+        });
+    }
+    
+    /**
+     * 리프레시 토큰으로 액세스 토큰을 재발급합니다. 비밀번호 해싱 없이 토큰 교환만 수행합니다.
+     */
+    public AuthResponse refresh(HttpServletRequest request, HttpServletResponse response) {
+        Optional<RefreshTokenService.Rotation> rotation = cookieUtil.getRefreshTokenFromCookie(request)
+                .flatMap(refreshTokenService::rotate);
+        
+        if (rotation.isEmpty()) {
+            cookieUtil.deleteRefreshCookie(response);
             return AuthResponse.builder()
                     .success(false)
-                    .message("인증에 실패했습니다.")
+                    .message("세션이 만료되었습니다. 다시 로그인해 주세요.")
                     .build();
         }
+        
+        User user = rotation.get().user();
+        String token = jwtUtil.generateToken(user);
+        authMetrics.timeCookieWrite(() -> {
+            cookieUtil.addJwtCookie(response, token);
+            cookieUtil.addRefreshCookie(response, rotation.get().refreshToken());
+        });
+        
+        return AuthResponse.builder()
+                .success(true)
+                .message("토큰이 갱신되었습니다.")
+                .user(toUserInfo(user))
+                .build();
+    }
+    
+    private AuthResponse.UserInfo toUserInfo(User user) {
+        return AuthResponse.UserInfo.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole().name())
+                .build();
+    }
+    
+    private void revokeAccessToken(HttpServletRequest request) {
+        // 필터가 이미 검증한 토큰이 있으면 다시 파싱하지 않음
+        if (request.getAttribute(JwtAuthenticationFilter.VALIDATED_TOKEN_ATTRIBUTE) instanceof ValidatedToken token) {
+            tokenRevocationService.revoke(token);
+            return;
+        }
+        // 인증되지 않은 요청(비활성 계정 등)에 남은 토큰만 직접 검증
+        cookieUtil.getJwtFromCookie(request).ifPresent(token -> {
+            try {
+                tokenRevocationService.revoke(jwtUtil.validate(token));
+            } catch (JwtException | IllegalArgumentException e) {
+                // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
+            }
+        });
     }
     
-    public AuthResponse logout(HttpServletResponse response) {
+    public AuthResponse logout(HttpServletRequest request, HttpServletResponse response) {
+        cookieUtil.getRefreshTokenFromCookie(request).ifPresent(refreshTokenService::revoke);
+        revokeAccessToken(request);
+        
         // JWT 쿠키 삭제
         cookieUtil.deleteJwtCookie(response);
+        cookieUtil.deleteRefreshCookie(response);
         
         return AuthResponse.builder()
                 .success(true)
                 .message("로그아웃되었습니다.")
                 .build();
     }
+    
+    /**
+     * 인증 결과. 실패하면 user는 null이고 failure에 응답이 담깁니다.
+     */
+    public record LoginAttempt(User user, AuthResponse failure) {
+        
+        static LoginAttempt failed(String message) {
+            return new LoginAttempt(null, AuthResponse.builder()
+                    .success(false)
+                    .message(message)
+                    .build());
+        }
+    }
+    
+    public record LoginResult(AuthResponse response, List<String> cookies) {
+    }
 }
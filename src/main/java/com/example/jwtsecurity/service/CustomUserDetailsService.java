@@ -1,21 +1,51 @@
 package com.example.jwtsecurity.service;
 
+import com.example.jwtsecurity.entity.User;
 import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthMetrics authMetrics;
+    private final UsernamePrefilter usernamePrefilter;
     
+    /**
+     * 요청마다 호출되므로 메서드 전체를 트랜잭션으로 묶지 않습니다. 캐시 적중 시에는 커넥션을 전혀 쓰지 않고,
+     * 캐시 미스일 때만 읽기 전용 조회(findPrincipalByUsername) 동안 커넥션을 점유합니다.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        // 확실히 없는 사용자명은 DB와 캐시를 거치지 않음 (더미 해시 비교는 DaoAuthenticationProvider가 수행)
+        if (!usernamePrefilter.mightExist(username)) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
+        }
+        return authMetrics.timeUserLookup(() -> userDetailsCache.get(username, userRepository::findAuthUserByUsername))
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
     }
+    
+    /**
+     * 로그인 성공 시 저장된 해시가 현재 인코딩 설정보다 오래된 경우 호출됩니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        log.info("Password hash upgraded for user: {}", user.getUsername());
+        return userRepository.save(user);
+    }
 }
@@ -0,0 +1,185 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.UserLockoutRepository.LockoutState;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연속 로그인 실패를 메모리에서 세고, 기준 횟수를 넘으면 일정 시간 동안 계정 로그인을 잠급니다.
+ * <p>
+ * 잠긴 계정은 AuthService에서 비밀번호 비교 전에 거부됩니다. 실패 횟수와 잠금 상태는
+ * 실패할 때마다 기록하지 않고 flush-interval마다 JDBC 배치로 users 테이블에 반영하며,
+ * 같은 주기로 다른 인스턴스에서 잠긴 계정을 불러옵니다.
+ * <p>
+ * 존재하지 않는 사용자명도 똑같이 잠가 잠금 여부로 계정 존재를 알 수 없도록 하되, DB에는 기록하지 않습니다.
+ * 잠금은 로그인과 리프레시 토큰 갱신을 막으며, 이미 발급된 액세스 토큰은 만료될 때까지 유효합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAttemptService {
+
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthMetrics authMetrics;
+    private final UsernamePrefilter usernamePrefilter;
+
+    @Value("${app.login.lockout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.login.lockout.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${app.login.lockout.duration:900000}")
+    private long lockDuration;
+
+    @Value("${app.login.lockout.max-tracked:100000}")
+    private long maxTracked;
+
+    // 소문자 사용자명 -> 실패 기록 (마지막 실패 후 잠금 시간만큼 지나면 초기화)
+    private Cache<String, Attempts> attempts;
+
+    // 소문자 사용자명 -> 잠금 해제 시각
+    private final Map<String, Instant> locks = new ConcurrentHashMap<>();
+
+    // DB에 반영할 변경 (실제 사용자명 -> 상태)
+    private final Map<String, LockoutState> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        attempts = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                // 실패 시 기존 항목은 읽기만 하고 쓰지 않으므로, 마지막 실패부터 세려면 접근 기준으로 만료
+                .expireAfterAccess(lockDuration, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public boolean isLocked(String username) {
+        if (!enabled || username == null) {
+            return false;
+        }
+        String key = normalize(username);
+        Instant lockedUntil = locks.get(key);
+        if (lockedUntil == null) {
+            return false;
+        }
+        if (lockedUntil.isAfter(Instant.now())) {
+            return true;
+        }
+        locks.remove(key, lockedUntil);
+        return false;
+    }
+
+    public void recordFailure(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        String key = normalize(username);
+        Attempts attempt = attempts.get(key, k -> new Attempts());
+        int failures = attempt.failures.incrementAndGet();
+
+        LocalDateTime lockedUntil = null;
+        if (failures >= maxFailures) {
+            Instant until = Instant.now().plusMillis(lockDuration);
+            locks.put(key, until);
+            attempt.failures.set(0);
+            authMetrics.recordLoginLockout();
+            lockedUntil = LocalDateTime.ofInstant(until, ZoneId.systemDefault());
+        }
+        // 사용자 캐시는 방금 인증 과정에서 채워졌으므로 추가 DB 조회 없음
+        enqueue(username, failures, lockedUntil);
+    }
+
+    public void recordSuccess(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        String key = normalize(username);
+        Attempts attempt = attempts.getIfPresent(key);
+        // 실패 기록이 없는 일반적인 로그인은 DB에 아무것도 쓰지 않음
+        if (attempt != null) {
+            attempts.invalidate(key);
+            enqueue(username, 0, null);
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 일괄 기록하고 다른 인스턴스의 잠금을 불러옵니다.
+     */
+    @Scheduled(fixedDelayString = "${app.login.lockout.flush-interval:5000}")
+    @Transactional
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        if (!pending.isEmpty()) {
+            List<LockoutState> batch = List.copyOf(pending.values());
+            try {
+                userRepository.batchUpdateLockout(batch);
+                // 기록에 성공한 상태만 제거하고, 그동안 새로 들어온 변경은 다음 주기에 기록
+                batch.forEach(state -> pending.remove(state.username(), state));
+                log.debug("Flushed {} login attempt states", batch.size());
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush {} login attempt states, will retry: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (UserRepository.LockedUser lockedUser : userRepository.findLockedUsers(now)) {
+            Instant until = lockedUser.getLockedUntil().atZone(ZoneId.systemDefault()).toInstant();
+            locks.merge(normalize(lockedUser.getUsername()), until, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        locks.values().removeIf(until -> until.isBefore(Instant.now()));
+    }
+
+    public int getLockedCount() {
+        return locks.size();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void enqueue(String username, int failures, LocalDateTime lockedUntil) {
+        if (!usernamePrefilter.mightExist(username)) {
+            return;
+        }
+        Optional<User> user = userDetailsCache.get(username, userRepository::findAuthUserByUsername);
+        if (user.isEmpty()) {
+            return;
+        }
+        // 잠긴 동안에는 인증 시도 자체가 없으므로 같은 주기 안에서는 마지막 상태만 기록하면 됨
+        String canonicalUsername = user.get().getUsername();
+        pending.put(canonicalUsername, new LockoutState(canonicalUsername, failures, lockedUntil));
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Attempts {
+        private final AtomicInteger failures = new AtomicInteger();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt) 작업 전용 실행기입니다.
+ * 로그인/회원가입이 몰려도 톰캣 요청 스레드를 점유하지 않도록 크기가 제한된 풀과 큐에서 실행하며,
+ * 큐가 가득 차면 즉시 거부(429)합니다.
+ */
+@Component
+@Slf4j
+public class PasswordHashExecutor {
+
+    // 0이면 CPU 코어 수만큼 사용
+    @Value("${app.password-hash.pool-size:0}")
+    private int poolSize;
+
+    @Value("${app.password-hash.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.password-hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hash executor started: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueNanos.add(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    totalExecutionNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getAverageQueueMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalQueueNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getAverageExecutionMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalExecutionNanos.sum() / 1_000_000.0 / count;
+    }
+
+    private static class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.RefreshToken;
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급과 회전을 담당합니다.
+ * 리프레시 토큰은 한 번만 사용할 수 있으며, 이미 회전된 토큰이 다시 제출되면
+ * 탈취로 간주하여 같은 패밀리의 토큰을 모두 폐기합니다.
+ * 단, 회전 직후 짧은 유예 시간 안에 다시 제출된 토큰은 동시 갱신 요청(여러 탭 등)으로 보고 한 번만 새 토큰을 발급합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginAttemptService loginAttemptService;
+
+    @Value("${jwt.refresh-expiration}")
+    private Long refreshExpiration;
+
+    @Value("${jwt.refresh-reuse-grace:5000}")
+    private long refreshReuseGrace;
+
+    /**
+     * 로그인 시 새로운 토큰 패밀리를 시작합니다.
+     */
+    @Transactional
+    public String issue(User user) {
+        return create(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 제출된 리프레시 토큰을 폐기하고 같은 패밀리의 새 토큰을 발급합니다.
+     * 토큰이 유효하지 않으면 빈 값을 반환합니다.
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        if (current.isRevoked() && isWithinReuseGrace(current)) {
+            // 동시 갱신에서 늦게 도착한 요청: 재사용으로 보지 않고 같은 패밀리의 토큰을 한 번만 더 발급
+            if (!isUsable(current.getUser())) {
+                return Optional.empty();
+            }
+            current.setGraceReissued(true);
+            return Optional.of(issueNext(current));
+        }
+        if (current.isRevoked()) {
+            // 이미 사용된 토큰의 재사용: 패밀리 전체와 발급된 액세스 토큰 폐기
+            String username = current.getUser().getUsername();
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            tokenRevocationService.revokeAllForUser(username);
+            log.warn("Refresh token reuse detected for user {}; revoked {} tokens", username, revoked);
+            return Optional.empty();
+        }
+        // 비활성화되었거나 잠긴 계정은 토큰을 소모하지 않고 거부 (잠금이 풀리면 같은 토큰으로 갱신 가능)
+        if (current.isExpired() || !isUsable(current.getUser())) {
+            return Optional.empty();
+        }
+
+        current.setRevoked(true);
+        current.setReplacedAt(LocalDateTime.now());
+        return Optional.of(issueNext(current));
+    }
+
+    /**
+     * 로그아웃 시 해당 토큰의 패밀리를 폐기합니다.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-cleanup-interval:3600000}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private Rotation issueNext(RefreshToken current) {
+        User user = current.getUser();
+        return new Rotation(create(user, current.getFamilyId()), user);
+    }
+
+    private boolean isUsable(User user) {
+        return user.isEnabled()
+                && user.isAccountNonExpired()
+                && user.isAccountNonLocked()
+                && user.isCredentialsNonExpired()
+                && !loginAttemptService.isLocked(user.getUsername());
+    }
+
+    private boolean isWithinReuseGrace(RefreshToken token) {
+        // 유예는 토큰당 한 번뿐이며, 만료되었거나 로그아웃·재사용 감지로 패밀리가 폐기되었다면 유예하지 않음
+        return token.getReplacedAt() != null
+                && !token.isGraceReissued()
+                && !token.isExpired()
+                && !token.getReplacedAt().plus(Duration.ofMillis(refreshReuseGrace)).isBefore(LocalDateTime.now())
+                && refreshTokenRepository.existsByFamilyIdAndRevokedFalse(token.getFamilyId());
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotation(String refreshToken, User user) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.RevokedToken;
+import com.example.jwtsecurity.repository.RevokedTokenRepository;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.BloomFilter;
+import com.example.jwtsecurity.util.ValidatedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 폐기 여부를 판단합니다.
+ * <p>
+ * 개별 토큰(jti) 폐기는 DB에 저장하고, 메모리의 블룸 필터로 "폐기되지 않음"을 I/O 없이 판별합니다.
+ * 블룸 필터가 양성일 때만 DB를 조회합니다. 블룸 필터는 토큰 수명마다 세대를 교체하여,
+ * 만료된 토큰의 항목이 자동으로 사라지도록 합니다.
+ * <p>
+ * 사용자 단위 폐기는 "이 시각 이전에 발급된 토큰은 무효" 기준 시각으로 처리하며,
+ * 토큰 수명이 지나면 메모리에서 제거됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${jwt.expiration}")
+    private Long tokenLifetime;
+
+    @Value("${jwt.revocation.expected-revocations:100000}")
+    private long expectedRevocations;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter currentFilter;
+    private volatile BloomFilter previousFilter;
+
+    private final Map<String, Instant> userWatermarks = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSync;
+
+    @PostConstruct
+    public void init() {
+        currentFilter = newFilter();
+        previousFilter = newFilter();
+        // 아직 만료되지 않은 토큰이 발급되었을 수 있는 기간의 폐기 정보를 모두 불러옴
+        lastSync = LocalDateTime.now().minus(tokenLifetime, ChronoUnit.MILLIS);
+        sync();
+    }
+
+    public boolean isRevoked(ValidatedToken token) {
+        Instant watermark = userWatermarks.get(token.subject());
+        // 기준 시각과 같은 초에 발급된 토큰도 폐기 이전에 발급되었을 수 있으므로 함께 거부
+        if (watermark != null && token.issuedAt() != null && !token.issuedAt().isAfter(watermark)) {
+            return true;
+        }
+
+        String jti = token.id();
+        if (jti == null) {
+            return false;
+        }
+        if (!currentFilter.mightContain(jti) && !previousFilter.mightContain(jti)) {
+            return false;
+        }
+        // 블룸 필터 양성(실제 폐기 또는 오탐)일 때만 DB 확인
+        return revokedTokenRepository.existsOnPrimary(jti);
+    }
+
+    @Transactional
+    public void revoke(ValidatedToken token) {
+        if (token.id() == null || token.expiration() == null) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(token.id())
+                .expiresAt(LocalDateTime.ofInstant(token.expiration(), ZoneId.systemDefault()))
+                .build());
+        currentFilter.put(token.id());
+    }
+
+    /**
+     * 해당 사용자에게 지금까지 발급된 모든 액세스 토큰을 폐기합니다.
+     */
+    @Transactional
+    public void revokeAllForUser(String username) {
+        // JWT의 iat는 초 단위이므로 기준 시각도 초 단위로 맞춤 (같은 초에 발급된 토큰까지 폐기됨)
+        Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        userRepository.updateTokensValidAfter(username, LocalDateTime.ofInstant(watermark, ZoneId.systemDefault()));
+        userWatermarks.merge(username, watermark, (a, b) -> a.isAfter(b) ? a : b);
+        log.info("All tokens revoked for user: {}", username);
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 폐기 정보를 주기적으로 반영합니다.
+     */
+    // 복제 지연으로 폐기 정보를 놓치지 않도록 읽기 전용 트랜잭션(복제본)이 아닌 primary에서 조회
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:10000}")
+    @Transactional
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // 인스턴스 간 시계 차이와 커밋 지연을 고려하여 약간 겹치게 조회
+        LocalDateTime since = lastSync.minusSeconds(5);
+
+        revokedTokenRepository.findActiveJtisCreatedSince(since, now)
+                .forEach(currentFilter::put);
+        userRepository.findTokenWatermarksSince(since)
+                .forEach(w -> userWatermarks.merge(w.getUsername(),
+                        w.getTokensValidAfter().atZone(ZoneId.systemDefault()).toInstant(),
+                        (a, b) -> a.isAfter(b) ? a : b));
+        lastSync = now;
+    }
+
+    /**
+     * 토큰 수명마다 블룸 필터 세대를 교체하고 만료된 폐기 정보를 정리합니다.
+     * 교체 주기가 토큰 수명 이상이므로, 버려지는 세대의 항목은 모두 이미 만료된 토큰입니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.expiration}", initialDelayString = "${jwt.expiration}")
+    @Transactional
+    public void rotate() {
+        previousFilter = currentFilter;
+        currentFilter = newFilter();
+
+        Instant cutoff = Instant.now().minusMillis(tokenLifetime);
+        userWatermarks.values().removeIf(watermark -> watermark.isBefore(cutoff));
+
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Token revocation filter rotated; deleted {} expired entries", deleted);
+    }
+
+    public long getFilterBits() {
+        return currentFilter.getBitCount() + previousFilter.getBitCount();
+    }
+
+    public int getWatermarkCount() {
+        return userWatermarks.size();
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+}
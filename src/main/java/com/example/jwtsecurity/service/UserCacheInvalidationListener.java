@@ -0,0 +1,39 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 저장/수정/삭제될 때 사용자 캐시를 무효화합니다.
+ * 트랜잭션 안에서는 커밋 이후에 무효화하여 커밋 전 데이터가 다시 캐시되지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String username = user.getUsername();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsCache.invalidate(username);
+                }
+            });
+        } else {
+            userDetailsCache.invalidate(username);
+        }
+    }
+}
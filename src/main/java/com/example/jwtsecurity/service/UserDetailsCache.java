@@ -0,0 +1,125 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.config.ReplicaRoutingDataSource;
+import com.example.jwtsecurity.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자명으로 조회한 User 엔티티를 캐시합니다.
+ * 존재하지 않는 사용자도 짧은 TTL로 캐시하여 반복되는 DB 조회를 막습니다.
+ * 사용자명 비교는 DB collation처럼 대소문자를 구분하지 않으므로 캐시 키도 소문자로 정규화합니다.
+ * <p>
+ * 사용자가 변경(가입, 수정)되어 무효화된 직후 read-your-writes-window 동안은 복제본 대신 primary에서 다시 읽어,
+ * 복제 지연으로 이전 데이터가 다시 캐시되지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    @Value("${app.cache.user-details.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.user-details.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.user-details.ttl:60000}")
+    private long ttl;
+
+    @Value("${app.cache.user-details.negative-ttl:10000}")
+    private long negativeTtl;
+
+    @Value("${app.datasource.read-your-writes-window:5000}")
+    private long readYourWritesWindow;
+
+    // 소문자 사용자명 -> 조회 결과
+    private Cache<String, Optional<User>> cache;
+
+    // 최근 변경된 사용자명 (소문자)
+    private Cache<String, Boolean> recentWrites;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<User>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(value.isPresent() ? ttl : negativeTtl);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<User> value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<User> value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        recentWrites = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(readYourWritesWindow, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        if (!enabled) {
+            return load(username, loader);
+        }
+        String key = normalize(username);
+        Optional<User> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return cache.get(key, k -> load(username, loader));
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            String key = normalize(username);
+            recentWrites.put(key, Boolean.TRUE);
+            cache.invalidate(key);
+            log.debug("User details cache invalidated: {}", username);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Optional<User> load(String username, Function<String, Optional<User>> loader) {
+        if (recentWrites.getIfPresent(normalize(username)) != null) {
+            return ReplicaRoutingDataSource.onPrimary(() -> loader.apply(username));
+        }
+        return loader.apply(username);
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.dto.SignupRequest;
+import com.example.jwtsecurity.dto.UserImportResult;
+import com.example.jwtsecurity.dto.UserImportResult.Status;
+import com.example.jwtsecurity.dto.UserImportSummary;
+import com.example.jwtsecurity.entity.Role;
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.exception.InvalidImportException;
+import com.example.jwtsecurity.exception.TooManyRequestsException;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자용 사용자 일괄 가져오기입니다. CSV(첫 줄은 헤더) 또는 NDJSON 본문을 한 줄씩 읽어 batch-size 행씩 처리합니다.
+ * <p>
+ * 묶음마다 회원가입과 같은 규칙으로 검증하고, 사용자명/이메일 중복을 IN 조회 두 번으로 확인한 뒤
+ * 비밀번호를 전용 풀에서 병렬로 해싱하여 JDBC 배치 INSERT로 저장합니다. 묶음은 각각 커밋되므로
+ * 앞 묶음에서 만든 사용자는 다음 묶음의 중복 확인에서 걸러지고, 본문 전체를 메모리에 올리지 않습니다.
+ * <p>
+ * 해싱 풀은 로그인용 PasswordHashExecutor와 분리되어 있고 기본 크기가 코어 수의 절반이라
+ * 가져오기 중에도 로그인 처리 용량이 남습니다. 동시에 실행할 수 있는 가져오기 수는 max-concurrent로 제한합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of("username", "email", "password", "name");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final UsernamePrefilter usernamePrefilter;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.user-import.batch-size:500}")
+    private int batchSize;
+
+    // 0이면 CPU 코어 수의 절반
+    @Value("${app.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${app.user-import.max-concurrent:1}")
+    private int maxConcurrent;
+
+    @Value("${app.user-import.retry-after-seconds:60}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor hashExecutor;
+    private Semaphore running;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-import-hash-");
+        threadFactory.setDaemon(true);
+        // 가져오기마다 한 묶음씩만 제출하므로 큐가 넘치지 않음
+        hashExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize * maxConcurrent),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        running = new Semaphore(maxConcurrent);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * 본문을 끝까지 읽으며 묶음마다 행별 결과를 sink에 넘기고, 전체 집계를 반환합니다.
+     * CSV 헤더가 올바르지 않으면 아무것도 저장하지 않고 InvalidImportException을 던집니다.
+     */
+    public UserImportSummary importUsers(InputStream body, Format format,
+                                         Consumer<List<UserImportResult>> sink) throws IOException {
+        if (!running.tryAcquire()) {
+            throw new TooManyRequestsException("다른 사용자 가져오기가 진행 중입니다. 잠시 후 다시 시도해 주세요.",
+                    retryAfterSeconds);
+        }
+        try {
+            return readAndImport(body, format, sink);
+        } finally {
+            running.release();
+        }
+    }
+
+    private UserImportSummary readAndImport(InputStream body, Format format,
+                                            Consumer<List<UserImportResult>> sink) throws IOException {
+        long start = System.nanoTime();
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        long lineNumber = 0;
+        Map<String, Integer> columns = null;
+        if (format == Format.CSV) {
+            columns = readHeader(reader.readLine());
+            lineNumber++;
+        }
+
+        List<Row> chunk = new ArrayList<>(batchSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(format == Format.CSV ? parseCsvRow(lineNumber, line, columns) : parseJsonRow(lineNumber, line));
+            if (chunk.size() == batchSize) {
+                emit(process(chunk), sink, counts);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            emit(process(chunk), sink, counts);
+        }
+
+        long created = counts.getOrDefault(Status.CREATED, 0L);
+        long duplicate = counts.getOrDefault(Status.DUPLICATE, 0L);
+        long invalid = counts.getOrDefault(Status.INVALID, 0L);
+        return UserImportSummary.builder()
+                .total(created + duplicate + invalid)
+                .created(created)
+                .duplicate(duplicate)
+                .invalid(invalid)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    private List<UserImportResult> process(List<Row> chunk) {
+        UserImportResult[] results = new UserImportResult[chunk.size()];
+
+        // 검증과 묶음 안의 중복 확인 (대소문자를 구분하지 않는 DB 정렬에 맞춰 소문자로 비교)
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results[i] = result(row, Status.INVALID, error);
+                continue;
+            }
+            String username = normalize(row.request().getUsername());
+            String email = normalize(row.request().getEmail());
+            if (usernames.contains(username)) {
+                results[i] = result(row, Status.DUPLICATE, "요청 안에서 중복된 사용자명입니다.");
+            } else if (emails.contains(email)) {
+                results[i] = result(row, Status.DUPLICATE, "요청 안에서 중복된 이메일입니다.");
+            } else {
+                usernames.add(username);
+                emails.add(email);
+                candidates.add(i);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // 이미 가입된 사용자명/이메일을 한 번에 조회
+        Set<String> existingUsernames = normalizeAll(userRepository.findExistingUsernames(
+                candidates.stream().map(i -> chunk.get(i).request().getUsername()).toList()));
+        Set<String> existingEmails = normalizeAll(userRepository.findExistingEmails(
+                candidates.stream().map(i -> chunk.get(i).request().getEmail()).toList()));
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            SignupRequest request = chunk.get(i).request();
+            if (existingUsernames.contains(normalize(request.getUsername()))) {
+                results[i] = result(chunk.get(i), Status.DUPLICATE, "이미 존재하는 사용자명입니다.");
+            } else if (existingEmails.contains(normalize(request.getEmail()))) {
+                results[i] = result(chunk.get(i), Status.DUPLICATE, "이미 존재하는 이메일입니다.");
+            } else {
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // 해싱은 트랜잭션 밖에서 병렬로 수행하여 커넥션을 점유하지 않음
+        List<CompletableFuture<User>> hashing = accepted.stream()
+                .map(i -> CompletableFuture.supplyAsync(() -> toUser(chunk.get(i).request()), hashExecutor))
+                .toList();
+        List<User> users = hashing.stream().map(CompletableFuture::join).toList();
+        // 생성 시각은 해싱을 시작한 때가 아니라 저장하는 시점으로 기록
+        LocalDateTime now = LocalDateTime.now();
+        users.forEach(user -> {
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.batchInsert(users));
+            for (int i : accepted) {
+                results[i] = result(chunk.get(i), Status.CREATED, null);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 뒤에 같은 사용자명/이메일로 가입한 사용자가 있으면 묶음 전체가 롤백되므로 한 건씩 다시 저장
+            log.debug("Batch insert conflicted, retrying {} rows one by one", users.size());
+            for (int k = 0; k < users.size(); k++) {
+                int i = accepted.get(k);
+                User user = users.get(k);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.batchInsert(List.of(user)));
+                    results[i] = result(chunk.get(i), Status.CREATED, null);
+                } catch (DataIntegrityViolationException conflict) {
+                    results[i] = result(chunk.get(i), Status.DUPLICATE, "이미 존재하는 사용자명 또는 이메일입니다.");
+                }
+            }
+        }
+
+        // JDBC로 저장했으므로 엔티티 리스너 대신 직접 반영 (없는 사용자로 캐시된 항목 제거)
+        for (int i : accepted) {
+            if (results[i].getStatus() == Status.CREATED) {
+                String username = chunk.get(i).request().getUsername();
+                usernamePrefilter.add(username);
+                userDetailsCache.invalidate(username);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private void emit(List<UserImportResult> results, Consumer<List<UserImportResult>> sink, Map<Status, Long> counts) {
+        Map<Status, Long> chunkCounts = results.stream()
+                .collect(Collectors.groupingBy(UserImportResult::getStatus, Collectors.counting()));
+        chunkCounts.forEach((status, count) -> {
+            counts.merge(status, count, Long::sum);
+            authMetrics.recordUserImport(status.name().toLowerCase(Locale.ROOT), count);
+        });
+        sink.accept(results);
+    }
+
+    private User toUser(SignupRequest request) {
+        return User.builder()
+                .username(request.getUsername())
+                .email(request.getEmail())
+                .password(passwordEncoder.encode(request.getPassword()))
+                .name(request.getName())
+                .role(Role.USER)
+                .build();
+    }
+
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private Map<String, Integer> readHeader(String header) {
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            // 엑셀에서 저장한 UTF-8 파일의 BOM 제거
+            List<String> names = parseCsvLine(header.replace("\uFEFF", ""));
+            for (int i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(normalize(names.get(i)), i);
+            }
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw new InvalidImportException("CSV 첫 줄에 username, email, password, name 열이 있어야 합니다.");
+        }
+        return columns;
+    }
+
+    private Row parseCsvRow(long lineNumber, String line, Map<String, Integer> columns) {
+        List<String> fields;
+        try {
+            fields = parseCsvLine(line);
+        } catch (InvalidImportException e) {
+            return new Row(lineNumber, null, e.getMessage());
+        }
+        SignupRequest request = new SignupRequest(
+                field(fields, columns.get("username")),
+                field(fields, columns.get("email")),
+                field(fields, columns.get("password")),
+                field(fields, columns.get("name")));
+        return new Row(lineNumber, request, null);
+    }
+
+    private Row parseJsonRow(long lineNumber, String line) {
+        try {
+            return new Row(lineNumber, objectMapper.readValue(line, SignupRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 한 줄짜리 CSV 레코드를 나눕니다. 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 지원하며,
+     * 값 안의 줄바꿈은 지원하지 않습니다.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidImportException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static UserImportResult result(Row row, Status status, String message) {
+        return UserImportResult.builder()
+                .line(row.line())
+                .username(row.request() != null ? row.request().getUsername() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private static Set<String> normalizeAll(List<String> values) {
+        return values.stream().map(UserImportService::normalize).collect(Collectors.toSet());
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Row(long line, SignupRequest request, String error) {
+    }
+}
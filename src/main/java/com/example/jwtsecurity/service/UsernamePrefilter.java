@@ -0,0 +1,130 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입된 사용자명의 블룸 필터로, 확실히 존재하지 않는 사용자명의 DB 조회를 생략합니다.
+ * <p>
+ * 크리덴셜 스터핑 목록은 대부분 존재하지 않는 사용자명이므로, 이런 로그인 시도는 DB에 닿지 않습니다.
+ * 존재하지 않는 사용자도 DaoAuthenticationProvider가 더미 해시와 비밀번호를 비교하므로
+ * 응답 시간으로 계정 존재 여부를 알 수 없습니다.
+ * <p>
+ * 시작 시 전체 사용자명으로 필터를 만들고, 가입 시 추가하며, 다른 인스턴스의 가입과 일괄 가져오기는
+ * sync-interval마다 마지막으로 읽은 id 이후의 행을 조회하여 반영합니다. 생성 시각이 아닌 id를 기준으로 하므로
+ * 인스턴스 간 시계 차이나 생성 시각과 커밋 사이의 지연에 영향을 받지 않습니다.
+ * 대소문자를 구분하지 않는 DB 정렬에서도 누락이 없도록 소문자로 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UsernamePrefilter {
+
+    private static final int LOAD_BATCH_SIZE = 10000;
+
+    // IDENTITY id는 발급 순서와 커밋 순서가 다를 수 있으므로(늦게 커밋된 낮은 id), 마지막 id보다 이만큼 앞에서부터 다시 읽음
+    private static final long SYNC_ID_OVERLAP = 1000;
+
+    private final UserRepository userRepository;
+
+    @Value("${app.login.username-prefilter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.login.username-prefilter.expected-users:1000000}")
+    private long expectedUsers;
+
+    @Value("${app.login.username-prefilter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 비활성화되었거나 아직 만들어지지 않았으면 null (모든 사용자명을 DB에서 조회)
+    private volatile BloomFilter filter;
+
+    // 필터에 반영한 가장 큰 사용자 id
+    private volatile long lastId;
+
+    private final LongAdder skipped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        // 이후 가입으로 오탐률이 빠르게 오르지 않도록 현재 사용자 수의 두 배 이상으로 잡음
+        BloomFilter newFilter = new BloomFilter(Math.max(expectedUsers, userRepository.count() * 2), falsePositiveRate);
+        long loaded = load(newFilter, 0);
+
+        filter = newFilter;
+        log.info("Username prefilter loaded: users={}, bits={}", loaded, newFilter.getBitCount());
+    }
+
+    /**
+     * @return false이면 확실히 존재하지 않는 사용자명
+     */
+    public boolean mightExist(String username) {
+        BloomFilter current = filter;
+        if (current == null || username == null || current.mightContain(normalize(username))) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    public void add(String username) {
+        BloomFilter current = filter;
+        if (current != null && username != null) {
+            current.put(normalize(username));
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 가입하거나 가져온 사용자명을 주기적으로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.login.username-prefilter.sync-interval:5000}")
+    public void sync() {
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        load(current, Math.max(0, lastId - SYNC_ID_OVERLAP));
+    }
+
+    // id 순으로 끊어 읽어 필터에 넣고 읽은 행 수를 반환
+    private long load(BloomFilter target, long afterId) {
+        long loaded = 0;
+        List<UserRepository.UsernameRow> rows;
+        do {
+            rows = userRepository.findUsernamesAfter(afterId, Limit.of(LOAD_BATCH_SIZE));
+            for (UserRepository.UsernameRow row : rows) {
+                target.put(normalize(row.getUsername()));
+                afterId = row.getId();
+            }
+            loaded += rows.size();
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        lastId = Math.max(lastId, afterId);
+        return loaded;
+    }
+
+    public long getFilterBits() {
+        BloomFilter current = filter;
+        return current != null ? current.getBitCount() : 0;
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.jwtsecurity.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 인증 경로의 지연시간 타이머와 실패 카운터입니다.
+ * <p>
+ * 요청마다 실행되는 구간의 타이머는 생성 시 한 번만 등록하여 레지스트리 조회 비용을 없앴고,
+ * 실패 카운터는 실패 경로에서만 호출되므로 사유 태그로 그때그때 조회합니다.
+ */
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Timer tokenVerifyTimer;
+    private final Timer userLookupTimer;
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchTimer;
+    private final Timer cookieReadTimer;
+    private final Timer cookieWriteTimer;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.tokenVerifyTimer = Timer.builder("auth.token.verify")
+                .description("JWT 서명 검증 및 파싱 시간 (캐시 적중 제외)")
+                .register(registry);
+        this.userLookupTimer = Timer.builder("auth.user.lookup")
+                .description("사용자 정보 조회 시간 (캐시 포함)")
+                .register(registry);
+        this.passwordEncodeTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해싱/검증 시간")
+                .tag("operation", "encode")
+                .register(registry);
+        this.passwordMatchTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해싱/검증 시간")
+                .tag("operation", "matches")
+                .register(registry);
+        this.cookieReadTimer = Timer.builder("auth.cookie")
+                .description("인증 쿠키 처리 시간")
+                .tag("operation", "read")
+                .register(registry);
+        this.cookieWriteTimer = Timer.builder("auth.cookie")
+                .description("인증 쿠키 처리 시간")
+                .tag("operation", "write")
+                .register(registry);
+    }
+
+    public <T> T timeTokenVerify(Supplier<T> supplier) {
+        return tokenVerifyTimer.record(supplier);
+    }
+
+    public <T> T timeUserLookup(Supplier<T> supplier) {
+        return userLookupTimer.record(supplier);
+    }
+
+    public <T> T timePasswordEncode(Supplier<T> supplier) {
+        return passwordEncodeTimer.record(supplier);
+    }
+
+    public <T> T timePasswordMatch(Supplier<T> supplier) {
+        return passwordMatchTimer.record(supplier);
+    }
+
+    public <T> T timeCookieRead(Supplier<T> supplier) {
+        return cookieReadTimer.record(supplier);
+    }
+
+    public <T> T timeCookieWrite(Supplier<T> supplier) {
+        return cookieWriteTimer.record(supplier);
+    }
+
+    public void timeCookieWrite(Runnable runnable) {
+        cookieWriteTimer.record(runnable);
+    }
+
+    /**
+     * 토큰 검증 실패 (expired, unsupported, malformed, signature, empty, revoked 등)
+     */
+    public void recordTokenFailure(String reason) {
+        registry.counter("auth.token.failures", "reason", reason).increment();
+    }
+
+    /**
+     * 로그인 실패 (bad_credentials, authentication)
+     */
+    public void recordLoginFailure(String reason) {
+        registry.counter("auth.login.failures", "reason", reason).increment();
+    }
+
+    /**
+     * 속도 제한으로 거부된 로그인 시도 (ip, username)
+     */
+    public void recordLoginRateLimited(String scope) {
+        registry.counter("auth.login.rate-limited", "scope", scope).increment();
+    }
+
+    /**
+     * 연속 실패로 잠긴 계정 수
+     */
+    public void recordLoginLockout() {
+        registry.counter("auth.login.lockouts").increment();
+    }
+
+    /**
+     * 일괄 가져오기 처리 행 수 (created, duplicate, invalid)
+     */
+    public void recordUserImport(String status, long rows) {
+        registry.counter("auth.user-import.rows", "status", status).increment(rows);
+    }
+
+    /**
+     * 예외 처리기에서 응답한 오류 (validation, expired_token, invalid_token 등)
+     */
+    public void recordError(String type) {
+        registry.counter("auth.errors", "type", type).increment();
+    }
+}
@@ -1,15 +1,23 @@
 package com.example.jwtsecurity.util;
 
-import jakarta.servlet.http.Cookie;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.Optional;
 
+/**
+ * 인증 쿠키를 읽고 씁니다.
+ * <p>
+ * 읽기는 요청의 Cookie 헤더를 직접 탐색하여 필요한 쿠키 값만 잘라내므로,
+ * 컨테이너가 모든 쿠키를 Cookie 객체로 파싱하지 않습니다.
+ * 쓰기는 시작 시 만들어 둔 Set-Cookie 속성 문자열에 토큰만 이어 붙입니다.
+ */
 @Component
 @Slf4j
 public class CookieUtil {
@@ -17,40 +25,146 @@ public class CookieUtil {
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
     
+    @Value("${jwt.refresh-expiration}")
+    private Long refreshExpiration;
+    
+    // 개발환경에서는 false, 운영환경(HTTPS)에서는 true
+    @Value("${app.cookie.secure:false}")
+    private boolean secure;
+    
+    // CSRF 방지 (Strict, Lax, None - None은 secure=true 필요)
+    @Value("${app.cookie.same-site:Lax}")
+    private String sameSite;
+    
     public static final String JWT_COOKIE_NAME = "accessToken";
     
+    public static final String REFRESH_COOKIE_NAME = "refreshToken";
+    
+    // 리프레시 토큰은 갱신/로그아웃 요청에만 전송되도록 경로를 제한
+    public static final String REFRESH_COOKIE_PATH = "/api/auth";
+    
+    private static final String JWT_COOKIE_PREFIX = JWT_COOKIE_NAME + "=";
+    private static final String REFRESH_COOKIE_PREFIX = REFRESH_COOKIE_NAME + "=";
+    
+    // 토큰 뒤에 붙는 속성 문자열과 삭제용 헤더는 설정이 바뀌지 않으므로 미리 생성
+    private String jwtCookieAttributes;
+    private String refreshCookieAttributes;
+    private String jwtDeleteHeader;
+    private String refreshDeleteHeader;
+    
+    @PostConstruct
+    public void init() {
+        jwtCookieAttributes = attributes("/", jwtExpiration / 1000);
+        refreshCookieAttributes = attributes(REFRESH_COOKIE_PATH, refreshExpiration / 1000);
+        jwtDeleteHeader = JWT_COOKIE_PREFIX + attributes("/", 0);
+        refreshDeleteHeader = REFRESH_COOKIE_PREFIX + attributes(REFRESH_COOKIE_PATH, 0);
+    }
+    
+    private String attributes(String path, long maxAgeSeconds) {
+        return "; Path=" + path
+                + "; Max-Age=" + maxAgeSeconds
+                + "; HttpOnly"
+                + (secure ? "; Secure" : "")
+                + "; SameSite=" + sameSite;
+    }
+    
     public void addJwtCookie(HttpServletResponse response, String token) {
-        Cookie cookie = new Cookie(JWT_COOKIE_NAME, token);
-        cookie.setHttpOnly(true); // XSS 방지
-        cookie.setSecure(false); // 개발환경에서는 false, 운영환경에서는 true
-        cookie.setPath("/");
-        cookie.setMaxAge((int) (jwtExpiration / 1000)); // 2시간
-        
-        // SameSite 속성을 헤더로 직접 설정 (CSRF 방지)
-        response.addHeader("Set-Cookie", 
-            String.format("%s=%s; Path=/; Max-Age=%d; HttpOnly; SameSite=Lax", 
-                JWT_COOKIE_NAME, token, (int) (jwtExpiration / 1000)));
-        
-        log.info("JWT cookie added successfully");
+        response.addHeader(HttpHeaders.SET_COOKIE, jwtCookieHeader(token));
+        log.debug("JWT cookie added");
+    }
+    
+    /**
+     * 액세스 토큰 쿠키의 Set-Cookie 헤더 값입니다. 응답 객체 대신 ResponseEntity 헤더로 쓸 때 사용합니다.
+     */
+    public String jwtCookieHeader(String token) {
+        return JWT_COOKIE_PREFIX + token + jwtCookieAttributes;
     }
     
     public Optional<String> getJwtFromCookie(HttpServletRequest request) {
-        if (request.getCookies() == null) {
-            return Optional.empty();
+        return Optional.ofNullable(findCookieValue(request, JWT_COOKIE_NAME));
+    }
+    
+    public void deleteJwtCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, jwtDeleteHeader);
+        log.debug("JWT cookie deleted");
+    }
+    
+    public void addRefreshCookie(HttpServletResponse response, String token) {
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookieHeader(token));
+    }
+    
+    public String refreshCookieHeader(String token) {
+        return REFRESH_COOKIE_PREFIX + token + refreshCookieAttributes;
+    }
+    
+    public Optional<String> getRefreshTokenFromCookie(HttpServletRequest request) {
+        return Optional.ofNullable(findCookieValue(request, REFRESH_COOKIE_NAME));
+    }
+    
+    public void deleteRefreshCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshDeleteHeader);
+    }
+    
+    private static String findCookieValue(HttpServletRequest request, String name) {
+        String header = request.getHeader(HttpHeaders.COOKIE);
+        if (header == null) {
+            return null;
+        }
+        String value = findCookieValue(header, name);
+        if (value != null) {
+            return value;
         }
         
-        return Arrays.stream(request.getCookies())
-                .filter(cookie -> JWT_COOKIE_NAME.equals(cookie.getName()))
-                .map(Cookie::getValue)
-                .findFirst();
+        // HTTP/2 클라이언트는 쿠키를 여러 Cookie 헤더로 나누어 보낼 수 있음 (첫 헤더는 이미 확인함)
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.COOKIE);
+        if (headers.hasMoreElements()) {
+            headers.nextElement();
+        }
+        while (headers.hasMoreElements()) {
+            value = findCookieValue(headers.nextElement(), name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
     }
     
-    public void deleteJwtCookie(HttpServletResponse response) {
-        // 쿠키 삭제를 위한 헤더 설정
-        response.addHeader("Set-Cookie", 
-            String.format("%s=; Path=/; Max-Age=0; HttpOnly; SameSite=Lax", 
-                JWT_COOKIE_NAME));
+    /**
+     * "a=1; b=2" 형식(RFC 6265)의 Cookie 헤더에서 이름이 일치하는 첫 쿠키의 값을 반환합니다.
+     * 일치하는 쿠키 값 외에는 문자열을 생성하지 않습니다.
+     */
+    static String findCookieValue(String header, String name) {
+        int length = header.length();
+        int nameLength = name.length();
+        int position = 0;
         
-        log.info("JWT cookie deleted successfully");
+        while (position < length) {
+            // 쿠키 쌍 앞의 공백 건너뛰기
+            while (position < length && (header.charAt(position) == ' ' || header.charAt(position) == '\t')) {
+                position++;
+            }
+            int end = header.indexOf(';', position);
+            if (end < 0) {
+                end = length;
+            }
+            
+            if (end - position > nameLength
+                    && header.charAt(position + nameLength) == '='
+                    && header.regionMatches(position, name, 0, nameLength)) {
+                int valueStart = position + nameLength + 1;
+                int valueEnd = end;
+                while (valueEnd > valueStart && (header.charAt(valueEnd - 1) == ' ' || header.charAt(valueEnd - 1) == '\t')) {
+                    valueEnd--;
+                }
+                // 따옴표로 감싼 값은 따옴표 제거
+                if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+                return header.substring(valueStart, valueEnd);
+            }
+            position = end + 1;
+        }
+        return null;
     }
 }
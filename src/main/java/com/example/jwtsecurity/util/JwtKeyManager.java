@@ -0,0 +1,316 @@
+package com.example.jwtsecurity.util;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JWT 서명 키와 파서를 관리합니다.
+ * <p>
+ * 파서는 시작 시 한 번만 생성되며, 토큰 헤더의 kid로 검증 키를 찾습니다.
+ * 비대칭 알고리즘(ES256, EdDSA)을 사용하면 공개 키를 JWKS로 제공하여
+ * 다른 서비스가 비밀 키 공유 없이 토큰을 검증할 수 있습니다.
+ * <p>
+ * 비대칭 키는 모든 인스턴스가 함께 읽는 PKCS12 키 저장소(jwt.signing.key-store)에서 불러오며, 별칭이 kid입니다.
+ * 키 교체는 저장소에 새 키를 추가하는 것으로 합니다. 각 인스턴스는 reload-interval마다 저장소를 다시 읽고,
+ * 새 키는 인증서 시작 시각(notBefore)에서 activation-delay가 지난 뒤에 서명을 시작합니다.
+ * 그 전까지는 JWKS에만 실려 있으므로, 검증하는 쪽이 캐시한 JWKS에 없는 kid를 받는 일이 없습니다.
+ * 다음 키가 서명을 시작하면 이전 키는 토큰 최대 수명이 지날 때까지 검증용으로만 남습니다.
+ */
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    // HMAC(jwt.secret 공유 비밀 키), ES256, EdDSA
+    @Value("${jwt.signing.algorithm:HMAC}")
+    private String algorithm;
+
+    @Value("${jwt.expiration}")
+    private Long tokenLifetime;
+
+    // 비대칭 키를 담은 PKCS12 키 저장소 위치 (file:, classpath:)
+    @Value("${jwt.signing.key-store:}")
+    private String keyStoreLocation;
+
+    @Value("${jwt.signing.key-store-password:}")
+    private String keyStorePassword;
+
+    // JWKS 캐시(max-age 5분)와 저장소 재조회 주기보다 길어야 함
+    @Value("${jwt.signing.activation-delay:600000}")
+    private long activationDelay;
+
+    // 활성 키와 검증 키 목록을 하나의 불변 객체로 묶어 교체 시에도 항상 일관된 상태를 읽도록 함
+    private volatile KeyMaterial current;
+
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final JwtParser parser = Jwts.parser()
+            .keyLocator(new KeyIdLocator())
+            .build();
+
+    @PostConstruct
+    public void init() {
+        if (!isAsymmetric()) {
+            rotate(secret);
+        } else if (StringUtils.hasText(keyStoreLocation)) {
+            reloadKeys();
+        } else {
+            log.warn("jwt.signing.key-store is not set: using an in-memory {} key pair. "
+                    + "Tokens will not verify on other instances or after a restart.", algorithm);
+            KeyPair keyPair = switch (algorithm) {
+                case "ES256" -> Jwts.SIG.ES256.keyPair().build();
+                case "EdDSA" -> Jwks.CRV.Ed25519.keyPair().build();
+                default -> throw new IllegalStateException("Unsupported JWT signing algorithm: " + algorithm);
+            };
+            activate(keyPair.getPrivate(), keyPair.getPublic());
+        }
+    }
+
+    /**
+     * HMAC 비밀 키를 교체합니다.
+     */
+    public void rotate(String newSecret) {
+        Key key = Keys.hmacShaKeyFor(newSecret.getBytes(StandardCharsets.UTF_8));
+        activate(key, key);
+    }
+
+    /**
+     * 키 저장소를 다시 읽어 서명 키와 검증 키 목록을 갱신합니다.
+     * 읽지 못하면 시작 시에는 실패하고, 실행 중에는 기존 키를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:60000}",
+            initialDelayString = "${jwt.signing.reload-interval:60000}")
+    public void reloadKeys() {
+        if (!isAsymmetric() || !StringUtils.hasText(keyStoreLocation)) {
+            return;
+        }
+        List<StoredKey> stored;
+        try {
+            stored = loadKeyStore();
+        } catch (IOException | GeneralSecurityException e) {
+            if (current == null) {
+                throw new IllegalStateException("Failed to load JWT key store: " + keyStoreLocation, e);
+            }
+            log.warn("Failed to reload JWT key store, keeping current keys: {}", e.getMessage());
+            return;
+        }
+        if (stored.isEmpty()) {
+            if (current == null) {
+                throw new IllegalStateException("No " + algorithm + " key in JWT key store: " + keyStoreLocation);
+            }
+            log.warn("JWT key store has no {} key, keeping current keys", algorithm);
+            return;
+        }
+        select(stored, Instant.now());
+    }
+
+    public Key getSigningKey() {
+        return current.active().signingKey();
+    }
+
+    public String getKeyId() {
+        return current.active().kid();
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    /**
+     * 키가 교체될 때마다 증가하는 세대 번호입니다. 이전 키로 검증된 캐시 항목을 구분하는 데 사용합니다.
+     */
+    public int getGeneration() {
+        return current.generation();
+    }
+
+    /**
+     * 검증에 사용할 수 있는 공개 키의 JWKS 문서입니다. 키 교체 시에만 다시 생성됩니다.
+     */
+    public Map<String, Object> getJwks() {
+        return current.jwks();
+    }
+
+    private boolean isAsymmetric() {
+        return !"HMAC".equals(algorithm);
+    }
+
+    private void activate(Key signingKey, Key verificationKey) {
+        Instant now = Instant.now();
+        // 같은 키라면 재시작하거나 인스턴스가 달라도 같은 kid가 되도록 키 자체에서 계산
+        String kid = algorithm.toLowerCase() + "-" + thumbprint(verificationKey);
+
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        KeyMaterial previous = current;
+        if (previous != null) {
+            // 이전 키는 발급된 토큰의 최대 수명 동안만 검증용으로 유지
+            for (SigningKey key : previous.keys().values()) {
+                Instant retireAt = key.retireAt() != null ? key.retireAt() : now.plusMillis(tokenLifetime);
+                if (retireAt.isAfter(now)) {
+                    keys.put(key.kid(), new SigningKey(key.kid(), key.signingKey(), key.verificationKey(), retireAt));
+                }
+            }
+        }
+        SigningKey active = new SigningKey(kid, signingKey, verificationKey, null);
+        keys.put(kid, active);
+        install(active, keys);
+    }
+
+    // 키 바이트의 SHA-256 앞 12바이트를 base64url로 표현 (HMAC 비밀 키 자체는 드러나지 않음)
+    private static String thumbprint(Key key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void select(List<StoredKey> stored, Instant now) {
+        List<StoredKey> sorted = stored.stream().sorted(Comparator.comparing(StoredKey::activatesAt)).toList();
+
+        // 서명을 시작한 키 중 가장 최근 키 (아직 아무 키도 시작 전이면 가장 먼저 시작할 키)
+        int activeIndex = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!sorted.get(i).activatesAt().isAfter(now)) {
+                activeIndex = i;
+            }
+        }
+
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            StoredKey key = sorted.get(i);
+            Instant retireAt = null;
+            if (i < activeIndex) {
+                // 다음 키가 서명을 시작한 뒤 이 키로 서명된 토큰이 모두 만료되면 제외
+                retireAt = sorted.get(i + 1).activatesAt().plusMillis(tokenLifetime);
+                if (!retireAt.isAfter(now)) {
+                    continue;
+                }
+            }
+            keys.put(key.kid(), new SigningKey(key.kid(), key.privateKey(), key.publicKey(), retireAt));
+        }
+        SigningKey active = keys.get(sorted.get(activeIndex).kid());
+
+        KeyMaterial material = current;
+        if (material != null && material.active().kid().equals(active.kid())
+                && material.keys().keySet().equals(keys.keySet())) {
+            return;
+        }
+        install(active, keys);
+    }
+
+    private List<StoredKey> loadKeyStore() throws IOException, GeneralSecurityException {
+        char[] password = keyStorePassword.toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = new DefaultResourceLoader().getResource(keyStoreLocation).getInputStream()) {
+            keyStore.load(in, password);
+        }
+
+        List<StoredKey> keys = new ArrayList<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (!keyStore.isKeyEntry(alias)
+                    || !(keyStore.getCertificate(alias) instanceof X509Certificate certificate)) {
+                continue;
+            }
+            Key privateKey = keyStore.getKey(alias, password);
+            if (!matchesAlgorithm(privateKey)) {
+                log.warn("Ignoring JWT key {}: not a {} key", alias, algorithm);
+                continue;
+            }
+            Instant activatesAt = certificate.getNotBefore().toInstant().plusMillis(activationDelay);
+            keys.add(new StoredKey(alias, privateKey, certificate.getPublicKey(), activatesAt));
+        }
+        return keys;
+    }
+
+    private boolean matchesAlgorithm(Key key) {
+        return switch (algorithm) {
+            case "ES256" -> key instanceof ECKey ecKey && ecKey.getParams().getOrder().bitLength() == 256;
+            case "EdDSA" -> "EdDSA".equals(key.getAlgorithm()) || "Ed25519".equals(key.getAlgorithm());
+            default -> false;
+        };
+    }
+
+    private synchronized void install(SigningKey active, Map<String, SigningKey> keys) {
+        int nextGeneration = generation.incrementAndGet();
+        current = new KeyMaterial(nextGeneration, active, Map.copyOf(keys), buildJwks(keys));
+        log.info("JWT signing key activated: kid={}, verificationKeys={}", active.kid(), keys.keySet());
+    }
+
+    private Map<String, Object> buildJwks(Map<String, SigningKey> keys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey key : keys.values()) {
+            if (key.verificationKey() instanceof PublicKey publicKey) {
+                jwks.add(new LinkedHashMap<>(Jwks.builder()
+                        .key(publicKey)
+                        .id(key.kid())
+                        .build()));
+            }
+        }
+        return Map.of("keys", List.copyOf(jwks));
+    }
+
+    private record StoredKey(String kid, Key privateKey, PublicKey publicKey, Instant activatesAt) {
+    }
+
+    private record SigningKey(String kid, Key signingKey, Key verificationKey, Instant retireAt) {
+    }
+
+    private record KeyMaterial(int generation, SigningKey active, Map<String, SigningKey> keys,
+                               Map<String, Object> jwks) {
+    }
+
+    private class KeyIdLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(ProtectedHeader header) {
+            KeyMaterial material = current;
+            String kid = header.getKeyId();
+            // kid가 없는 토큰(kid 도입 이전에 발급된 토큰)은 현재 키로 검증
+            SigningKey key = kid == null ? material.active() : material.keys().get(kid);
+            return key != null ? key.verificationKey() : null;
+        }
+
+        @Override
+        protected Key doLocate(Header header) {
+            return null;
+        }
+    }
+}
@@ -1,47 +1,121 @@
 package com.example.jwtsecurity.util;
 
+import com.example.jwtsecurity.entity.Role;
+import com.example.jwtsecurity.entity.User;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
     
-    @Value("${jwt.secret}")
-    private String secret;
+    // 무상태 인증 모드에서 토큰에 포함되는 사용자 정보 클레임
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ENABLED = "enabled";
+    public static final String CLAIM_ACCOUNT_NON_EXPIRED = "ane";
+    public static final String CLAIM_ACCOUNT_NON_LOCKED = "anl";
+    public static final String CLAIM_CREDENTIALS_NON_EXPIRED = "cne";
+    
+    private final JwtKeyManager keyManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthMetrics authMetrics;
+    private final SecurityLogSampler securityLogSampler;
     
     @Value("${jwt.expiration}")
     private Long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
     
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (statelessEnabled && userDetails instanceof User user) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_EMAIL, user.getEmail());
+            claims.put(CLAIM_NAME, user.getName());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_ENABLED, user.isEnabled());
+            claims.put(CLAIM_ACCOUNT_NON_EXPIRED, user.isAccountNonExpired());
+            claims.put(CLAIM_ACCOUNT_NON_LOCKED, user.isAccountNonLocked());
+            claims.put(CLAIM_CREDENTIALS_NON_EXPIRED, user.isCredentialsNonExpired());
+        }
         return createToken(claims, userDetails.getUsername());
     }
     
+    public boolean isStatelessEnabled() {
+        return statelessEnabled;
+    }
+    
+    /**
+     * 토큰 클레임만으로 사용자 정보를 복원합니다.
+     * 사용자 정보 클레임이 없는 토큰(무상태 모드 이전에 발급된 토큰)은 null을 반환합니다.
+     */
+    public User toUser(ValidatedToken token) {
+        Long id = token.getClaim(CLAIM_USER_ID, Long.class);
+        String role = token.getClaim(CLAIM_ROLE, String.class);
+        if (id == null || role == null) {
+            return null;
+        }
+        
+        return User.builder()
+                .id(id)
+                .username(token.subject())
+                .email(token.getClaim(CLAIM_EMAIL, String.class))
+                .name(token.getClaim(CLAIM_NAME, String.class))
+                .role(Role.valueOf(role))
+                .enabled(Boolean.TRUE.equals(token.getClaim(CLAIM_ENABLED, Boolean.class)))
+                .accountNonExpired(Boolean.TRUE.equals(token.getClaim(CLAIM_ACCOUNT_NON_EXPIRED, Boolean.class)))
+                .accountNonLocked(Boolean.TRUE.equals(token.getClaim(CLAIM_ACCOUNT_NON_LOCKED, Boolean.class)))
+                .credentialsNonExpired(Boolean.TRUE.equals(token.getClaim(CLAIM_CREDENTIALS_NON_EXPIRED, Boolean.class)))
+                .build();
+    }
+    
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .header().keyId(keyManager.getKeyId()).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(keyManager.getSigningKey())
                 .compact();
     }
     
+    /**
+     * 토큰의 서명과 만료를 한 번만 검증하고 결과를 반환합니다.
+     * 이미 검증된 토큰이면 캐시된 결과를 반환합니다.
+     */
+    public ValidatedToken validate(String token) {
+        if (!verifiedTokenCache.isEnabled()) {
+            return ValidatedToken.of(extractAllClaims(token));
+        }
+        
+        int keyGeneration = keyManager.getGeneration();
+        ValidatedToken cached = verifiedTokenCache.get(token, keyGeneration);
+        if (cached != null) {
+            return cached;
+        }
+        
+        ValidatedToken validatedToken = ValidatedToken.of(extractAllClaims(token));
+        verifiedTokenCache.put(token, keyGeneration, validatedToken);
+        return validatedToken;
+    }
+    
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -57,25 +131,28 @@ public class JwtUtil {
     
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return authMetrics.timeTokenVerify(() -> keyManager.getParser()
                     .parseSignedClaims(token)
-                    .getPayload();
+                    .getPayload());
         } catch (ExpiredJwtException e) {
-            log.warn("JWT token is expired: {}", e.getMessage());
+            securityLogSampler.warn(log, "jwt.expired", "JWT token is expired: {}", e.getMessage());
+            authMetrics.recordTokenFailure("expired");
             throw e;
         } catch (UnsupportedJwtException e) {
-            log.warn("JWT token is unsupported: {}", e.getMessage());
+            securityLogSampler.warn(log, "jwt.unsupported", "JWT token is unsupported: {}", e.getMessage());
+            authMetrics.recordTokenFailure("unsupported");
             throw e;
         } catch (MalformedJwtException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
+            securityLogSampler.warn(log, "jwt.malformed", "Invalid JWT token: {}", e.getMessage());
+            authMetrics.recordTokenFailure("malformed");
             throw e;
         } catch (SecurityException e) {
-            log.warn("Invalid JWT signature: {}", e.getMessage());
+            securityLogSampler.warn(log, "jwt.signature", "Invalid JWT signature: {}", e.getMessage());
+            authMetrics.recordTokenFailure("signature");
             throw e;
         } catch (IllegalArgumentException e) {
-            log.warn("JWT claims string is empty: {}", e.getMessage());
+            securityLogSampler.warn(log, "jwt.empty", "JWT claims string is empty: {}", e.getMessage());
+            authMetrics.recordTokenFailure("empty");
             throw e;
         }
     }
@@ -84,14 +161,10 @@ public class JwtUtil {
         return extractExpiration(token).before(new Date());
     }
     
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JWT validation failed: {}", e.getMessage());
-            return false;
-        }
+    public Boolean validateToken(ValidatedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired();
     }
     
     public Boolean isTokenExpired(String token, boolean throwException) {
@@ -0,0 +1,61 @@
+package com.example.jwtsecurity.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 속도 제한기입니다.
+ * <p>
+ * 버킷 상태를 "다음 토큰이 생기는 이론적 시각(GCRA의 TAT)" 하나의 long으로 표현하므로
+ * 갱신은 CAS 한 번으로 끝나며 잠금이 없습니다. 버킷은 capacity 만큼 연속 요청을 허용하고
+ * refillInterval마다 토큰 하나가 다시 채워집니다.
+ * <p>
+ * 버킷이 가득 찰 만큼 사용되지 않은 키는 제거해도 상태가 같으므로 그 시간이 지나면 제거되며,
+ * 전체 버킷 수도 maxKeys로 제한됩니다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    // 현재 시각보다 이만큼 앞선 TAT까지 허용 (= capacity - 1개의 토큰을 미리 사용한 상태)
+    private final long toleranceNanos;
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(int capacity, long refillIntervalMillis, long maxKeys) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMillis);
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(intervalNanos * capacity, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long waitNanos = start - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long getKeyCount() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jwtsecurity.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잘못된 토큰, 로그인 실패 등 외부 요청으로 얼마든지 발생할 수 있는 보안 경고의 로그 양을 제한합니다.
+ * <p>
+ * 분류(category)마다 구간(window)당 첫 건만 그대로 남기고 나머지는 개수만 세어,
+ * 구간이 끝날 때 분류별 억제 건수를 한 줄로 요약합니다.
+ * 공격 트래픽에서도 로그 I/O가 요청 수에 비례해 늘어나지 않습니다.
+ */
+@Component
+@Slf4j
+public class SecurityLogSampler {
+
+    @Value("${app.logging.security.window:60000}")
+    private long window;
+
+    private final Map<String, Sample> samples = new ConcurrentHashMap<>();
+
+    public void warn(Logger logger, String category, String format, Object arg) {
+        if (sample(category).acquire(System.currentTimeMillis(), window)) {
+            logger.warn(format, arg);
+        }
+    }
+
+    public void warn(Logger logger, String category, String format, Object arg1, Object arg2) {
+        if (sample(category).acquire(System.currentTimeMillis(), window)) {
+            logger.warn(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * 구간 동안 억제된 경고 건수를 분류별로 남깁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.logging.security.window:60000}")
+    public void flush() {
+        samples.forEach((category, sample) -> {
+            long suppressed = sample.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                log.warn("Suppressed {} similar security warnings in the last {} ms: {}", suppressed, window, category);
+            }
+        });
+    }
+
+    private Sample sample(String category) {
+        Sample sample = samples.get(category);
+        return sample != null ? sample : samples.computeIfAbsent(category, key -> new Sample());
+    }
+
+    private static class Sample {
+
+        private final AtomicLong windowStart = new AtomicLong();
+        private final LongAdder suppressed = new LongAdder();
+
+        // 구간의 첫 호출만 true, 이후 호출은 억제 건수로 집계
+        boolean acquire(long now, long window) {
+            long start = windowStart.get();
+            if (now - start >= window && windowStart.compareAndSet(start, now)) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.jwtsecurity.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰입니다.
+ * 한 번 파싱한 결과를 필터와 컨트롤러가 공유하여 같은 토큰을 다시 검증하지 않도록 합니다.
+ */
+public record ValidatedToken(String id, String subject, Instant issuedAt, Instant expiration, Claims claims) {
+
+    public static ValidatedToken of(Claims claims) {
+        return new ValidatedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims
+        );
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+}
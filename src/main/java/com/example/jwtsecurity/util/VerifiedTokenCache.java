@@ -0,0 +1,157 @@
+package com.example.jwtsecurity.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰을 토큰 지문(SHA-256 앞 128비트)으로 캐시합니다.
+ * 같은 쿠키로 반복되는 요청은 HMAC 검증과 JSON 파싱을 건너뜁니다.
+ * 항목은 토큰의 exp 시각 이전에 반드시 만료되며, 전체 크기는 추정 바이트 수로 제한됩니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 항목 하나의 고정 오버헤드 추정치 (키, 엔트리, ValidatedToken, Claims 맵 등)
+    private static final int ENTRY_OVERHEAD_BYTES = 400;
+
+    // 가상 스레드에서는 ThreadLocal 재사용 효과가 없으므로 원본 인스턴스를 복제하여 사용
+    private static final MessageDigest SHA256_PROTOTYPE;
+
+    static {
+        try {
+            SHA256_PROTOTYPE = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value("${jwt.token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.token-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    private Cache<Fingerprint, Entry> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Fingerprint key, Entry entry) -> entry.weight())
+                .expireAfter(new Expiry<Fingerprint, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Fingerprint key, Entry entry, long currentTime) {
+                        Instant expiration = entry.token().expiration();
+                        if (expiration == null) {
+                            return 0;
+                        }
+                        long remaining = expiration.toEpochMilli() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Fingerprint key, Entry entry, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Fingerprint key, Entry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환합니다. 다른 키 세대에서 검증된 항목은 무시합니다.
+     */
+    public ValidatedToken get(String token, int keyGeneration) {
+        Fingerprint fingerprint = Fingerprint.of(token);
+        Entry entry = cache.getIfPresent(fingerprint);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.keyGeneration() != keyGeneration || entry.token().isExpired()) {
+            cache.invalidate(fingerprint);
+            return null;
+        }
+        return entry.token();
+    }
+
+    public void put(String token, int keyGeneration, ValidatedToken validatedToken) {
+        if (validatedToken.expiration() == null) {
+            // 만료 시각이 없는 토큰은 캐시 수명을 정할 수 없으므로 저장하지 않음
+            return;
+        }
+        cache.put(Fingerprint.of(token), new Entry(keyGeneration, validatedToken, estimateWeight(validatedToken)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public long getEstimatedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static int estimateWeight(ValidatedToken token) {
+        int weight = ENTRY_OVERHEAD_BYTES;
+        for (Map.Entry<String, Object> claim : token.claims().entrySet()) {
+            weight += 48 + claim.getKey().length() * 2;
+            if (claim.getValue() instanceof String value) {
+                weight += value.length() * 2;
+            }
+        }
+        return weight;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) SHA256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(int keyGeneration, ValidatedToken token, int weight) {
+    }
+
+    private record Fingerprint(long high, long low) {
+
+        static Fingerprint of(String token) {
+            MessageDigest digest = newDigest();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new Fingerprint(hash.getLong(), hash.getLong());
+        }
+    }
+}
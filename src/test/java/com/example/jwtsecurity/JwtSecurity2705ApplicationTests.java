@@ -2,8 +2,10 @@ package com.example.jwtsecurity;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class JwtSecurity2705ApplicationTests {
 
 	@Test
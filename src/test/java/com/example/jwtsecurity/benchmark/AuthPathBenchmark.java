@@ -0,0 +1,132 @@
+package com.example.jwtsecurity.benchmark;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.filter.JwtAuthenticationFilter;
+import com.example.jwtsecurity.repository.RevokedTokenRepository;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.service.CustomUserDetailsService;
+import com.example.jwtsecurity.service.TokenRevocationService;
+import com.example.jwtsecurity.service.UserDetailsCache;
+import com.example.jwtsecurity.service.UsernamePrefilter;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.example.jwtsecurity.util.CookieUtil;
+import com.example.jwtsecurity.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건이 거치는 경로(쿠키 처리, 토큰 발급/검증, 인증 필터 전체)를 측정합니다.
+ * DB 접근은 Mockito 목으로 대체하므로 순수 CPU/할당 비용만 측정됩니다.
+ * 할당률은 -prof gc 옵션으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthPathBenchmark {
+
+    // 검증 토큰 캐시와 사용자 캐시를 켠 상태(운영 기본값)와 끈 상태를 비교
+    @Param({"true", "false"})
+    private boolean cachesEnabled;
+
+    private JwtUtil jwtUtil;
+    private CookieUtil cookieUtil;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String token;
+    private Cookie[] cookies;
+
+    @Setup
+    public void setup() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.keyManager("HMAC"), cachesEnabled);
+        cookieUtil = BenchmarkFixtures.cookieUtil();
+        user = BenchmarkFixtures.user();
+        token = jwtUtil.generateToken(user);
+        cookies = new Cookie[]{
+                new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                new Cookie(CookieUtil.JWT_COOKIE_NAME, token),
+                new Cookie("theme", "dark")
+        };
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findAuthUserByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache();
+        ReflectionTestUtils.setField(userDetailsCache, "enabled", cachesEnabled);
+        ReflectionTestUtils.setField(userDetailsCache, "maxSize", 10000L);
+        ReflectionTestUtils.setField(userDetailsCache, "ttl", 60000L);
+        ReflectionTestUtils.setField(userDetailsCache, "negativeTtl", 10000L);
+        userDetailsCache.init();
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(
+                Mockito.mock(RevokedTokenRepository.class), userRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "tokenLifetime", BenchmarkFixtures.EXPIRATION);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedRevocations", 100000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.001);
+        tokenRevocationService.init();
+
+        AuthMetrics authMetrics = BenchmarkFixtures.authMetrics();
+        filter = new JwtAuthenticationFilter(jwtUtil,
+                new CustomUserDetailsService(userRepository, userDetailsCache, authMetrics,
+                        new UsernamePrefilter(userRepository)),
+                cookieUtil, tokenRevocationService, authMetrics, BenchmarkFixtures.securityLogSampler());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(jwtUtil.validate(token), user);
+    }
+
+    @Benchmark
+    public Optional<String> getJwtFromCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookies);
+        return cookieUtil.getJwtFromCookie(request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse addJwtCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cookieUtil.addJwtCookie(response, token);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticationFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/home");
+        request.setCookies(cookies);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
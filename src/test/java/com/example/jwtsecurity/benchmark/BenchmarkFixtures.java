@@ -0,0 +1,76 @@
+package com.example.jwtsecurity.benchmark;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.example.jwtsecurity.util.CookieUtil;
+import com.example.jwtsecurity.util.JwtKeyManager;
+import com.example.jwtsecurity.util.JwtUtil;
+import com.example.jwtsecurity.util.SecurityLogSampler;
+import com.example.jwtsecurity.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 스프링 컨텍스트 없이 벤치마크 대상 컴포넌트를 구성합니다.
+ * application.properties의 기본값과 같은 설정을 사용합니다.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+    static final long EXPIRATION = 900000L;
+    static final long REFRESH_EXPIRATION = 1209600000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtKeyManager keyManager(String algorithm) {
+        JwtKeyManager keyManager = new JwtKeyManager();
+        ReflectionTestUtils.setField(keyManager, "secret", SECRET);
+        ReflectionTestUtils.setField(keyManager, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyManager, "tokenLifetime", EXPIRATION);
+        keyManager.init();
+        return keyManager;
+    }
+
+    static JwtUtil jwtUtil(JwtKeyManager keyManager, boolean tokenCacheEnabled) {
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "enabled", tokenCacheEnabled);
+        ReflectionTestUtils.setField(tokenCache, "maxBytes", 16L * 1024 * 1024);
+        tokenCache.init();
+
+        JwtUtil jwtUtil = new JwtUtil(keyManager, tokenCache, authMetrics(), securityLogSampler());
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION);
+        return jwtUtil;
+    }
+
+    // 운영과 같은 타이머 기록 비용이 포함되도록 실제 레지스트리 사용
+    static AuthMetrics authMetrics() {
+        return new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    static SecurityLogSampler securityLogSampler() {
+        SecurityLogSampler sampler = new SecurityLogSampler();
+        ReflectionTestUtils.setField(sampler, "window", 60000L);
+        return sampler;
+    }
+
+    static CookieUtil cookieUtil() {
+        CookieUtil cookieUtil = new CookieUtil();
+        ReflectionTestUtils.setField(cookieUtil, "jwtExpiration", EXPIRATION);
+        ReflectionTestUtils.setField(cookieUtil, "refreshExpiration", REFRESH_EXPIRATION);
+        ReflectionTestUtils.setField(cookieUtil, "secure", false);
+        ReflectionTestUtils.setField(cookieUtil, "sameSite", "Lax");
+        cookieUtil.init();
+        return cookieUtil;
+    }
+
+    static User user() {
+        return User.builder()
+                .id(1L)
+                .username("benchuser")
+                .email("bench@example.com")
+                .password("password")
+                .name("벤치마크")
+                .build();
+    }
+}
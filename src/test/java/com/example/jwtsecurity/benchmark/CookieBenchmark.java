@@ -0,0 +1,137 @@
+package com.example.jwtsecurity.benchmark;
+
+import com.example.jwtsecurity.util.CookieUtil;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.apache.tomcat.util.buf.MessageBytes;
+import org.apache.tomcat.util.http.MimeHeaders;
+import org.apache.tomcat.util.http.Rfc6265CookieProcessor;
+import org.apache.tomcat.util.http.ServerCookie;
+import org.apache.tomcat.util.http.ServerCookies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 쿠키 읽기/쓰기의 처리량과 할당량을 이전 구현(legacy*)과 비교합니다.
+ * <p>
+ * 이전 구현의 읽기는 request.getCookies()가 톰캣에서 하는 일(모든 쿠키를 파싱하여 Cookie 객체로 변환)을
+ * 톰캣의 쿠키 파서로 재현하여 측정합니다. 응답은 헤더 값만 보관하는 래퍼로 대체하여
+ * 목 객체 자체의 할당이 결과에 섞이지 않도록 했습니다. 할당량은 -prof gc의 gc.alloc.rate.norm으로 확인합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieBenchmark {
+
+    private CookieUtil cookieUtil;
+    private String token;
+    private MockHttpServletRequest request;
+    private HeaderCapturingResponse response;
+
+    // 이전 구현 재현용 (톰캣은 요청마다 아래 객체를 재사용하고 recycle함)
+    private final Rfc6265CookieProcessor cookieProcessor = new Rfc6265CookieProcessor();
+    private final MimeHeaders mimeHeaders = new MimeHeaders();
+    private final ServerCookies serverCookies = new ServerCookies(4);
+
+    @Setup
+    public void setup() {
+        cookieUtil = BenchmarkFixtures.cookieUtil();
+        token = BenchmarkFixtures.jwtUtil(BenchmarkFixtures.keyManager("HMAC"), false)
+                .generateToken(BenchmarkFixtures.user());
+
+        // 브라우저가 보내는 일반적인 형태: 분석/설정 쿠키 사이에 인증 쿠키가 섞여 있음
+        String cookieHeader = "_ga=GA1.1.123456789.1700000000; theme=dark; "
+                + CookieUtil.JWT_COOKIE_NAME + "=" + token
+                + "; _gid=GA1.1.987654321.1700000000; locale=ko-KR";
+
+        request = new MockHttpServletRequest("GET", "/api/home");
+        request.addHeader(HttpHeaders.COOKIE, cookieHeader);
+        response = new HeaderCapturingResponse();
+
+        byte[] headerBytes = cookieHeader.getBytes(StandardCharsets.ISO_8859_1);
+        mimeHeaders.addValue(HttpHeaders.COOKIE).setBytes(headerBytes, 0, headerBytes.length);
+    }
+
+    @Benchmark
+    public Optional<String> getJwtFromCookie() {
+        return cookieUtil.getJwtFromCookie(request);
+    }
+
+    @Benchmark
+    public Optional<String> legacyGetJwtFromCookie() {
+        serverCookies.recycle();
+        cookieProcessor.parseCookieHeader(mimeHeaders, serverCookies);
+
+        // org.apache.catalina.connector.Request#convertCookies와 같은 변환
+        Cookie[] cookies = new Cookie[serverCookies.getCookieCount()];
+        for (int i = 0; i < cookies.length; i++) {
+            ServerCookie serverCookie = serverCookies.getCookie(i);
+            cookies[i] = new Cookie(toString(serverCookie.getName()), toString(serverCookie.getValue()));
+        }
+
+        return Arrays.stream(cookies)
+                .filter(cookie -> CookieUtil.JWT_COOKIE_NAME.equals(cookie.getName()))
+                .map(Cookie::getValue)
+                .findFirst();
+    }
+
+    @Benchmark
+    public String addJwtCookie() {
+        cookieUtil.addJwtCookie(response, token);
+        return response.lastHeader;
+    }
+
+    @Benchmark
+    public String legacyAddJwtCookie() {
+        Cookie cookie = new Cookie(CookieUtil.JWT_COOKIE_NAME, token);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(false);
+        cookie.setPath("/");
+        cookie.setMaxAge((int) (BenchmarkFixtures.EXPIRATION / 1000));
+
+        response.addHeader("Set-Cookie",
+                String.format("%s=%s; Path=/; Max-Age=%d; HttpOnly; SameSite=Lax",
+                        CookieUtil.JWT_COOKIE_NAME, token, (int) (BenchmarkFixtures.EXPIRATION / 1000)));
+        return response.lastHeader;
+    }
+
+    // 톰캣은 recycle 시 캐시된 문자열을 버리므로 요청마다 새로 디코딩됨
+    private static String toString(MessageBytes bytes) {
+        return new String(bytes.getByteChunk().getBytes(), bytes.getByteChunk().getStart(),
+                bytes.getByteChunk().getLength(), StandardCharsets.ISO_8859_1);
+    }
+
+    private static class HeaderCapturingResponse extends HttpServletResponseWrapper {
+
+        private String lastHeader;
+
+        HeaderCapturingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            lastHeader = value;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CookieBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jwtsecurity.benchmark;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.util.JwtKeyManager;
+import com.example.jwtsecurity.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 키와 파서를 생성하던 방식과 캐시된 키/파서를 재사용하는 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil cachingJwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtKeyManager keyManager = BenchmarkFixtures.keyManager("HMAC");
+        jwtUtil = BenchmarkFixtures.jwtUtil(keyManager, false);
+        cachingJwtUtil = BenchmarkFixtures.jwtUtil(keyManager, true);
+        user = BenchmarkFixtures.user();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String parsePerCall() {
+        // 기존 방식: 매 호출마다 키와 파서를 새로 생성
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(BenchmarkFixtures.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String parseCached() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateMultiParse() {
+        // 기존 필터 경로: extractUsername 후 문자열 기반 validateToken에서 두 번 더 파싱
+        jwtUtil.extractUsername(token);
+        return jwtUtil.extractUsername(token).equals(user.getUsername())
+                && jwtUtil.extractExpiration(token).after(new Date());
+    }
+
+    @Benchmark
+    public boolean validateSingleParse() {
+        return jwtUtil.validateToken(jwtUtil.validate(token), user);
+    }
+
+    @Benchmark
+    public boolean validateCachedToken() {
+        return cachingJwtUtil.validateToken(cachingJwtUtil.validate(token), user);
+    }
+
+    @Benchmark
+    public String signPerCall() {
+        return Jwts.builder()
+                .subject(user.getUsername())
+                .signWith(Keys.hmacShaKeyFor(BenchmarkFixtures.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public String signCached() {
+        return jwtUtil.generateToken(user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.jwtsecurity.benchmark;
+
+import com.example.jwtsecurity.JwtSecurity2705Application;
+import com.example.jwtsecurity.entity.Role;
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 크기와 동시 요청 수에 따른 UserRepository.findByUsername 지연시간을 측정합니다.
+ * <p>
+ * 내장 H2(MySQL 호환 모드)로 JPA 설정 전체를 띄워 Hibernate와 Hikari를 거친 실제 조회 비용을 잽니다.
+ * 스레드 수가 풀 크기를 넘으면 커넥션 대기 시간이 지연시간 백분위수에 그대로 드러납니다.
+ * findAuthUserByUsername은 엔티티 전체 조회와 인증용 프로젝션 조회를 비교합니다.
+ * (MySQL 드라이버의 statement 캐시 효과는 H2에서 측정되지 않습니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+
+    private static final int USERS = 1000;
+
+    @Param({"4", "10"})
+    private int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+
+    @Setup
+    public void setup() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = SpringApplication.run(JwtSecurity2705Application.class,
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.devtools.livereload.enabled=false",
+                "--logging.level.root=WARN",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                "--app.datasource.warmup.enabled=true");
+        userRepository = context.getBean(UserRepository.class);
+
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("{noop}password")
+                    .name("사용자" + i)
+                    .role(Role.USER)
+                    .build());
+        }
+        userRepository.saveAll(users);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<User> findByUsername_1() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<User> findByUsername_8() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Optional<User> findByUsername_32() {
+        return lookup();
+    }
+
+    // 요청 인증 경로의 조회 (필요한 컬럼만 조회, 영속성 컨텍스트에 올리지 않음)
+    @Benchmark
+    @Threads(1)
+    public Optional<User> findAuthUserByUsername_1() {
+        return userRepository.findAuthUserByUsername(randomUsername());
+    }
+
+    private Optional<User> lookup() {
+        return userRepository.findByUsername(randomUsername());
+    }
+
+    private static String randomUsername() {
+        return "user" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
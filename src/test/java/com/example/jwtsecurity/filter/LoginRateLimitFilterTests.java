@@ -0,0 +1,145 @@
+package com.example.jwtsecurity.filter;
+
+import com.example.jwtsecurity.exception.PayloadTooLargeException;
+import com.example.jwtsecurity.exception.TooManyRequestsException;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimitFilterTests {
+
+	private LoginRateLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		// 응답 형식은 GlobalExceptionHandler 몫이므로 여기서는 예외 종류만 상태 코드로 기록
+		HandlerExceptionResolver resolver = (request, response, handler, ex) -> {
+			response.setStatus(ex instanceof TooManyRequestsException ? HttpStatus.TOO_MANY_REQUESTS.value()
+					: ex instanceof PayloadTooLargeException ? HttpStatus.PAYLOAD_TOO_LARGE.value()
+					: HttpStatus.INTERNAL_SERVER_ERROR.value());
+			return new ModelAndView();
+		};
+		filter = new LoginRateLimitFilter(new ObjectMapper(), new AuthMetrics(new SimpleMeterRegistry()), resolver);
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "ipCapacity", 100);
+		ReflectionTestUtils.setField(filter, "ipRefillInterval", 60000L);
+		ReflectionTestUtils.setField(filter, "usernameCapacity", 2);
+		ReflectionTestUtils.setField(filter, "usernameRefillInterval", 60000L);
+		ReflectionTestUtils.setField(filter, "maxKeys", 1000L);
+		filter.init();
+	}
+
+	@Test
+	void passesBodyThroughToController() throws Exception {
+		String body = "{\"username\":\"alice\",\"password\":\"password123\"}";
+		MockFilterChain chain = new MockFilterChain();
+
+		MockHttpServletResponse response = login(loginRequest("10.0.0.1", body), chain);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo(body);
+	}
+
+	@Test
+	void limitsUsernameAcrossIpsIgnoringCase() throws Exception {
+		assertThat(login(loginRequest("10.0.0.1", "{\"username\":\"alice\"}")).getStatus()).isEqualTo(200);
+		assertThat(login(loginRequest("10.0.0.2", "{\"username\":\"Alice \"}")).getStatus()).isEqualTo(200);
+
+		MockHttpServletResponse rejected = login(loginRequest("10.0.0.3", "{\"username\":\"ALICE\"}"));
+
+		assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(login(loginRequest("10.0.0.3", "{\"username\":\"bob\"}")).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void limitsIp() throws Exception {
+		ReflectionTestUtils.setField(filter, "ipCapacity", 1);
+		filter.init();
+
+		assertThat(login(loginRequest("10.0.0.1", "{\"username\":\"alice\"}")).getStatus()).isEqualTo(200);
+		assertThat(login(loginRequest("10.0.0.1", "{\"username\":\"bob\"}")).getStatus())
+				.isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void rejectsBodyWithLargeContentLength() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+
+		MockHttpServletResponse response = login(loginRequest("10.0.0.1", paddedBody()), chain);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void rejectsLargeBodyWithoutContentLength() throws Exception {
+		HttpServletRequest chunked = new HttpServletRequestWrapper(loginRequest("10.0.0.1", paddedBody())) {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+
+			@Override
+			public int getContentLength() {
+				return -1;
+			}
+		};
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(chunked, response, chain);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void ignoresOtherPaths() throws Exception {
+		MockHttpServletRequest request = loginRequest("10.0.0.1", paddedBody());
+		request.setRequestURI("/api/auth/signup");
+		MockFilterChain chain = new MockFilterChain();
+
+		login(request, chain);
+
+		assertThat(chain.getRequest()).isSameAs(request);
+	}
+
+	private MockHttpServletResponse login(MockHttpServletRequest request) throws Exception {
+		return login(request, new MockFilterChain());
+	}
+
+	private MockHttpServletResponse login(HttpServletRequest request, MockFilterChain chain) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private static MockHttpServletRequest loginRequest(String ip, String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+		request.setRemoteAddr(ip);
+		request.setContentType("application/json");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	// 공백으로 부풀린 로그인 요청
+	private static String paddedBody() {
+		return "{\"username\":\"alice\",\"password\":\"x\"" + " ".repeat(LoginRateLimitFilter.MAX_BODY_BYTES) + "}";
+	}
+}
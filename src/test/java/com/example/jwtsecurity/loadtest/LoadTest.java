@@ -0,0 +1,202 @@
+package com.example.jwtsecurity.loadtest;
+
+import com.example.jwtsecurity.JwtSecurity2705Application;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 DB(H2, MySQL 호환 모드)로 애플리케이션을 띄우고 HTTP 부하를 발생시키는 부하 테스트입니다.
+ * <p>
+ * /api/auth/signup으로 사용자를 생성한 뒤, 가상 사용자들이 로그인 / /api/auth/me / /api/home 요청을
+ * 섞어서 보내며 요청 종류별 p50/p99/p99.9 지연시간과 처리량을 출력합니다.
+ * <p>
+ * 실행: mvn -Pload-test verify [-Dloadtest.users=200 -Dloadtest.concurrency=64 -Dloadtest.duration=30
+ * -Dloadtest.virtual=true]
+ */
+public class LoadTest {
+
+    enum Endpoint {
+        LOGIN, ME, HOME
+    }
+
+    private final int users = Integer.getInteger("loadtest.users", 200);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+    // 전체 요청 중 로그인 비율 (%)
+    private final int loginPercent = Integer.getInteger("loadtest.login-percent", 5);
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual");
+
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    void run() throws Exception {
+        // devtools 재시작 클래스로더는 명령행 인자보다 먼저 초기화되므로 시스템 속성으로 끔
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String profiles = virtualThreads ? "test,virtual" : "test";
+        ConfigurableApplicationContext context = SpringApplication.run(JwtSecurity2705Application.class,
+                "--server.port=0",
+                "--spring.profiles.active=" + profiles,
+                "--logging.level.root=WARN",
+                "--spring.devtools.livereload.enabled=false",
+                // 모든 요청이 같은 IP에서 발생하므로 로그인 속도 제한은 끔
+                "--app.rate-limit.login.enabled=false",
+                "--app.password-hash.queue-capacity=" + Math.max(100, concurrency * 2));
+        clientExecutor = Executors.newFixedThreadPool(8);
+        try {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+
+            System.out.printf("Load test: mode=%s, users=%d, concurrency=%d, duration=%ds%n",
+                    virtualThreads ? "virtual-threads" : "platform-threads", users, concurrency, durationSeconds);
+
+            seedUsers();
+            drive();
+        } finally {
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private void seedUsers() throws Exception {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String username = "user" + i;
+            results.add(pool.submit(() -> post("/api/auth/signup", """
+                    {"username":"%s","email":"%s@example.com","password":"password123","name":"부하테스트"}
+                    """.formatted(username, username), null).statusCode()));
+        }
+        int failed = 0;
+        for (Future<Integer> result : results) {
+            if (result.get() != 200) {
+                failed++;
+            }
+        }
+        pool.shutdown();
+        System.out.printf("Seeded %d users in %d ms (%d failed)%n",
+                users, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed);
+    }
+
+    private void drive() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Future<Map<Endpoint, LatencyRecorder>>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(pool.submit(() -> runVirtualUser(warmupEnd, end)));
+        }
+
+        Map<Endpoint, LatencyRecorder> total = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            total.put(endpoint, new LatencyRecorder());
+        }
+        for (Future<Map<Endpoint, LatencyRecorder>> worker : workers) {
+            worker.get().forEach((endpoint, recorder) -> total.get(endpoint).merge(recorder));
+        }
+        pool.shutdown();
+
+        report(total);
+    }
+
+    private Map<Endpoint, LatencyRecorder> runVirtualUser(long warmupEnd, long end) throws Exception {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String cookie = null;
+        while (System.nanoTime() < end) {
+            Endpoint endpoint = cookie == null || random.nextInt(100) < loginPercent
+                    ? Endpoint.LOGIN
+                    : random.nextBoolean() ? Endpoint.ME : Endpoint.HOME;
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = switch (endpoint) {
+                case LOGIN -> post("/api/auth/login", """
+                        {"username":"user%d","password":"password123"}
+                        """.formatted(random.nextInt(users)), null);
+                case ME -> get("/api/auth/me", cookie);
+                case HOME -> get("/api/home", cookie);
+            };
+            long elapsed = System.nanoTime() - start;
+
+            if (endpoint == Endpoint.LOGIN && response.statusCode() == 200) {
+                cookie = extractAccessTokenCookie(response);
+            }
+            if (start >= warmupEnd) {
+                recorders.get(endpoint).record(elapsed, response.statusCode() < 400);
+            }
+        }
+        return recorders;
+    }
+
+    private void report(Map<Endpoint, LatencyRecorder> total) {
+        System.out.printf("%n%-8s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)");
+        long allRequests = 0;
+        for (Map.Entry<Endpoint, LatencyRecorder> entry : total.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            allRequests += recorder.count();
+            System.out.printf("%-8s %10d %10d %10.1f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), recorder.count(), recorder.errors(),
+                    recorder.count() / (double) durationSeconds,
+                    recorder.percentileMillis(0.50), recorder.percentileMillis(0.99), recorder.percentileMillis(0.999));
+        }
+        System.out.printf("%-8s %10d %10s %10.1f%n", "TOTAL", allRequests, "", allRequests / (double) durationSeconds);
+    }
+
+    private HttpResponse<String> post(String path, String body, String cookie) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String cookie) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", cookie)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String extractAccessTokenCookie(HttpResponse<String> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            if (header.startsWith("accessToken=")) {
+                return header.substring(0, header.indexOf(';'));
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.config.ReplicaRoutingDataSource;
+import com.example.jwtsecurity.dto.AuthResponse;
+import com.example.jwtsecurity.dto.SignupRequest;
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
+import com.example.jwtsecurity.util.CookieUtil;
+import com.example.jwtsecurity.util.JwtUtil;
+import com.example.jwtsecurity.util.SecurityLogSampler;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceSignupTests {
+
+	private static final SignupRequest REQUEST =
+			new SignupRequest("alice", "alice@example.com", "password123", "Alice");
+
+	private UserRepository userRepository;
+	private AuthService authService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		authService = new AuthService(userRepository, mock(PasswordEncoder.class), mock(AuthenticationManager.class),
+				mock(JwtUtil.class), mock(CookieUtil.class), mock(RefreshTokenService.class),
+				mock(TokenRevocationService.class), mock(AuthMetrics.class), mock(SecurityLogSampler.class),
+				mock(LoginAttemptService.class), mock(UsernamePrefilter.class));
+	}
+
+	@Test
+	void mapsUsernameConstraint() {
+		failInsertWith(User.UK_USERNAME.toUpperCase());
+
+		assertThat(authService.signup(REQUEST, "hash").getMessage()).isEqualTo("이미 존재하는 사용자명입니다.");
+		verify(userRepository, never()).existsByUsername(anyString());
+	}
+
+	@Test
+	void mapsEmailConstraint() {
+		failInsertWith("PUBLIC." + User.UK_EMAIL + "_INDEX_4");
+
+		AuthResponse response = authService.signup(REQUEST, "hash");
+
+		assertThat(response.isSuccess()).isFalse();
+		assertThat(response.getMessage()).isEqualTo("이미 존재하는 이메일입니다.");
+	}
+
+	@Test
+	void rethrowsOtherViolations() {
+		failInsertWith("fk_users_something");
+
+		assertThatThrownBy(() -> authService.signup(REQUEST, "hash"))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void rethrowsViolationWithoutConstraintName() {
+		when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("value too long"));
+
+		assertThatThrownBy(() -> authService.signup(REQUEST, "hash"))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void fallbackLookupRunsOnPrimary() {
+		failInsertWith("uk_r43af9ap4edm43mmtq01oddj6");
+		ThreadLocal<?> primaryRequired =
+				(ThreadLocal<?>) ReflectionTestUtils.getField(ReplicaRoutingDataSource.class, "PRIMARY_REQUIRED");
+		// 복제본에는 아직 충돌한 행이 없을 수 있으므로 primary에서 조회할 때만 존재한다고 응답
+		when(userRepository.existsByEmail("alice@example.com"))
+				.thenAnswer(invocation -> Boolean.TRUE.equals(primaryRequired.get()));
+
+		assertThat(authService.signup(REQUEST, "hash").getMessage()).isEqualTo("이미 존재하는 이메일입니다.");
+	}
+
+	private void failInsertWith(String constraintName) {
+		when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate",
+				new ConstraintViolationException("duplicate", new SQLException("duplicate"), constraintName)));
+	}
+}
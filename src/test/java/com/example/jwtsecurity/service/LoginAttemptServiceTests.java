@@ -0,0 +1,177 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.UserLockoutRepository.LockoutState;
+import com.example.jwtsecurity.repository.UserRepository;
+import com.example.jwtsecurity.util.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAttemptServiceTests {
+
+	private UserRepository userRepository;
+	private LoginAttemptService loginAttemptService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+		UsernamePrefilter usernamePrefilter = mock(UsernamePrefilter.class);
+		when(usernamePrefilter.mightExist(anyString())).thenReturn(true);
+		when(userDetailsCache.get(anyString(), any())).thenAnswer(invocation -> Optional.of(User.builder()
+				.username(invocation.getArgument(0))
+				.build()));
+
+		loginAttemptService = new LoginAttemptService(userRepository, userDetailsCache,
+				new AuthMetrics(new SimpleMeterRegistry()), usernamePrefilter);
+		configure(3, 300);
+	}
+
+	@Test
+	void locksAfterMaxFailures() {
+		loginAttemptService.recordFailure("alice");
+		loginAttemptService.recordFailure("alice");
+		assertThat(loginAttemptService.isLocked("alice")).isFalse();
+
+		loginAttemptService.recordFailure("alice");
+
+		// 사용자명은 대소문자와 앞뒤 공백을 무시하고 잠김
+		assertThat(loginAttemptService.isLocked("alice")).isTrue();
+		assertThat(loginAttemptService.isLocked(" ALICE ")).isTrue();
+		assertThat(loginAttemptService.isLocked("bob")).isFalse();
+	}
+
+	@Test
+	void successResetsFailures() {
+		loginAttemptService.recordFailure("alice");
+		loginAttemptService.recordFailure("alice");
+		loginAttemptService.recordSuccess("alice");
+		loginAttemptService.recordFailure("alice");
+
+		assertThat(loginAttemptService.isLocked("alice")).isFalse();
+	}
+
+	@Test
+	void lockExpiresAfterDuration() throws InterruptedException {
+		configure(1, 100);
+		loginAttemptService.recordFailure("alice");
+		assertThat(loginAttemptService.isLocked("alice")).isTrue();
+
+		Thread.sleep(150);
+
+		assertThat(loginAttemptService.isLocked("alice")).isFalse();
+		assertThat(loginAttemptService.getLockedCount()).isZero();
+	}
+
+	@Test
+	void failureWindowCountsFromLastFailure() throws InterruptedException {
+		loginAttemptService.recordFailure("alice");
+		Thread.sleep(200);
+		loginAttemptService.recordFailure("alice");
+		Thread.sleep(200);
+
+		// 첫 실패로부터는 잠금 시간(300ms)이 지났지만 마지막 실패로부터는 지나지 않음
+		loginAttemptService.recordFailure("alice");
+
+		assertThat(loginAttemptService.isLocked("alice")).isTrue();
+	}
+
+	@Test
+	void failuresResetAfterQuietPeriod() throws InterruptedException {
+		loginAttemptService.recordFailure("alice");
+		loginAttemptService.recordFailure("alice");
+		Thread.sleep(400);
+
+		loginAttemptService.recordFailure("alice");
+
+		assertThat(loginAttemptService.isLocked("alice")).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flushWritesPendingStates() {
+		loginAttemptService.recordFailure("alice");
+		loginAttemptService.recordFailure("bob");
+
+		loginAttemptService.flush();
+
+		ArgumentCaptor<Collection<LockoutState>> batch = ArgumentCaptor.forClass(Collection.class);
+		verify(userRepository).batchUpdateLockout(batch.capture());
+		assertThat(batch.getValue()).extracting(LockoutState::username).containsExactlyInAnyOrder("alice", "bob");
+		assertThat(loginAttemptService.getPendingCount()).isZero();
+	}
+
+	@Test
+	void flushKeepsStatesWhenWriteFails() {
+		loginAttemptService.recordFailure("alice");
+		doThrow(new DataAccessResourceFailureException("down"))
+				.doReturn(new int[]{1})
+				.when(userRepository).batchUpdateLockout(anyCollection());
+
+		loginAttemptService.flush();
+		assertThat(loginAttemptService.getPendingCount()).isEqualTo(1);
+
+		loginAttemptService.flush();
+		assertThat(loginAttemptService.getPendingCount()).isZero();
+		verify(userRepository, times(2)).batchUpdateLockout(anyCollection());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flushKeepsStatesChangedDuringWrite() {
+		loginAttemptService.recordFailure("alice");
+		// 기록하는 동안 같은 사용자의 실패가 하나 더 들어옴
+		doAnswer(invocation -> {
+			loginAttemptService.recordFailure("alice");
+			return new int[]{1};
+		}).doReturn(new int[]{1}).when(userRepository).batchUpdateLockout(anyCollection());
+
+		loginAttemptService.flush();
+		assertThat(loginAttemptService.getPendingCount()).isEqualTo(1);
+
+		loginAttemptService.flush();
+		ArgumentCaptor<Collection<LockoutState>> batch = ArgumentCaptor.forClass(Collection.class);
+		verify(userRepository, times(2)).batchUpdateLockout(batch.capture());
+		assertThat(batch.getAllValues().get(1)).extracting(LockoutState::failedLoginAttempts).containsExactly(2);
+	}
+
+	@Test
+	void flushLoadsLocksFromOtherInstances() {
+		UserRepository.LockedUser lockedUser = mock(UserRepository.LockedUser.class);
+		when(lockedUser.getUsername()).thenReturn("Carol");
+		when(lockedUser.getLockedUntil()).thenReturn(LocalDateTime.now().plusMinutes(1));
+		when(userRepository.findLockedUsers(any())).thenReturn(List.of(lockedUser));
+
+		loginAttemptService.flush();
+
+		assertThat(loginAttemptService.isLocked("carol")).isTrue();
+	}
+
+	private void configure(int maxFailures, long lockDuration) {
+		ReflectionTestUtils.setField(loginAttemptService, "enabled", true);
+		ReflectionTestUtils.setField(loginAttemptService, "maxFailures", maxFailures);
+		ReflectionTestUtils.setField(loginAttemptService, "lockDuration", lockDuration);
+		ReflectionTestUtils.setField(loginAttemptService, "maxTracked", 1000L);
+		loginAttemptService.init();
+	}
+}
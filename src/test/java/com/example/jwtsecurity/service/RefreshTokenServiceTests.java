@@ -0,0 +1,169 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.RefreshTokenRepository;
+import com.example.jwtsecurity.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTests {
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private LoginAttemptService loginAttemptService;
+
+	private User user;
+
+	private Object reuseGrace;
+
+	@BeforeEach
+	void setUp() {
+		reuseGrace = ReflectionTestUtils.getField(refreshTokenService, "refreshReuseGrace");
+		String username = "rt-" + UUID.randomUUID().toString().substring(0, 8);
+		user = userRepository.save(User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("{noop}password123")
+				.name("Refresh Test")
+				.build());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Instant> lockedUsers() {
+		return (Map<String, Instant>) ReflectionTestUtils.getField(loginAttemptService, "locks");
+	}
+
+	@AfterEach
+	void restoreReuseGrace() {
+		ReflectionTestUtils.setField(refreshTokenService, "refreshReuseGrace", reuseGrace);
+	}
+
+	@Test
+	void rotatesWithinFamily() {
+		String first = refreshTokenService.issue(user);
+
+		RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first).orElseThrow();
+
+		assertThat(rotation.refreshToken()).isNotEqualTo(first);
+		assertThat(rotation.user().getId()).isEqualTo(user.getId());
+		assertThat(refreshTokenService.rotate(rotation.refreshToken())).isPresent();
+	}
+
+	@Test
+	void resubmissionWithinGraceIssuesSibling() {
+		String first = refreshTokenService.issue(user);
+		String second = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+
+		// 동시 갱신 요청으로 보고 같은 패밀리의 새 토큰을 발급하며, 먼저 받은 토큰도 계속 유효
+		String sibling = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+		assertThat(sibling).isNotEqualTo(second);
+		assertThat(refreshTokenService.rotate(second)).isPresent();
+	}
+
+	@Test
+	void secondResubmissionWithinGraceIsReuse() {
+		String first = refreshTokenService.issue(user);
+		String second = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+		String sibling = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+
+		// 유예는 토큰당 한 번뿐이므로 세 번째 제출은 재사용으로 보고 패밀리 전체를 폐기
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+		assertThat(refreshTokenService.rotate(second)).isEmpty();
+		assertThat(refreshTokenService.rotate(sibling)).isEmpty();
+	}
+
+	@Test
+	void expiredTokenGetsNoGrace() {
+		String first = refreshTokenService.issue(user);
+		String second = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+		refreshTokenRepository.findAll().stream()
+				.filter(token -> token.getUser().getId().equals(user.getId()) && token.isRevoked())
+				.forEach(token -> {
+					token.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+					refreshTokenRepository.save(token);
+				});
+
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+		assertThat(refreshTokenService.rotate(second)).isEmpty();
+	}
+
+	@Test
+	void disabledAccountCannotRefresh() {
+		String first = refreshTokenService.issue(user);
+		user.setEnabled(false);
+		userRepository.save(user);
+
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+	}
+
+	@Test
+	void lockedAccountCannotRefreshUntilUnlocked() {
+		String first = refreshTokenService.issue(user);
+		Map<String, Instant> locks = lockedUsers();
+		locks.put(user.getUsername(), Instant.now().plusSeconds(60));
+
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+
+		// 잠긴 동안 거부된 토큰은 소모되지 않으므로 잠금이 풀리면 다시 사용할 수 있음
+		locks.remove(user.getUsername());
+		assertThat(refreshTokenService.rotate(first)).isPresent();
+	}
+
+	@Test
+	void resubmissionWithinGraceAfterLogoutIsRejected() {
+		String first = refreshTokenService.issue(user);
+		refreshTokenService.rotate(first).orElseThrow();
+		refreshTokenService.revoke(first);
+
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+	}
+
+	@Test
+	void reuseRevokesWholeFamily() {
+		ReflectionTestUtils.setField(refreshTokenService, "refreshReuseGrace", 0L);
+		String first = refreshTokenService.issue(user);
+		String second = refreshTokenService.rotate(first).orElseThrow().refreshToken();
+
+		// 이미 회전된 토큰을 다시 제출하면 패밀리 전체가 폐기됨
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+		assertThat(refreshTokenService.rotate(second)).isEmpty();
+	}
+
+	@Test
+	void reuseDoesNotAffectOtherFamilies() {
+		ReflectionTestUtils.setField(refreshTokenService, "refreshReuseGrace", 0L);
+		String first = refreshTokenService.issue(user);
+		String other = refreshTokenService.issue(user);
+		refreshTokenService.rotate(first).orElseThrow();
+
+		assertThat(refreshTokenService.rotate(first)).isEmpty();
+		assertThat(refreshTokenService.rotate(other)).isPresent();
+	}
+
+	@Test
+	void rejectsUnknownToken() {
+		assertThat(refreshTokenService.rotate("unknown-token")).isEmpty();
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.util.ValidatedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationServiceTests {
+
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+
+	@Test
+	void revokeAllForUserRejectsTokensIssuedInSameSecond() {
+		String username = "wm-" + UUID.randomUUID().toString().substring(0, 8);
+		// JWT의 iat처럼 초 단위로 잘린 발급 시각
+		Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		ValidatedToken token = token(username, issuedAt);
+
+		tokenRevocationService.revokeAllForUser(username);
+
+		assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+		assertThat(tokenRevocationService.isRevoked(token(username, issuedAt.minusSeconds(1)))).isTrue();
+		assertThat(tokenRevocationService.isRevoked(token(username, issuedAt.plusSeconds(2)))).isFalse();
+	}
+
+	@Test
+	void revokeAllForUserDoesNotAffectOtherUsers() {
+		String username = "wm-" + UUID.randomUUID().toString().substring(0, 8);
+		tokenRevocationService.revokeAllForUser(username);
+
+		assertThat(tokenRevocationService.isRevoked(token(username + "-other", Instant.now()))).isFalse();
+	}
+
+	private static ValidatedToken token(String username, Instant issuedAt) {
+		return new ValidatedToken(null, username, issuedAt, issuedAt.plus(15, ChronoUnit.MINUTES), null);
+	}
+}
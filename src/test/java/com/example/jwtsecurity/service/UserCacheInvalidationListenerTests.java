@@ -0,0 +1,43 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import com.example.jwtsecurity.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheInvalidationListenerTests {
+
+	@Autowired
+	private UserDetailsCache userDetailsCache;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void savingUserEvictsCachedEntry() {
+		String username = "cache-" + UUID.randomUUID().toString().substring(0, 8);
+		// 가입 전에 조회되어 캐시된 "없음" 결과는 가입 시 제거됨
+		assertThat(userDetailsCache.get(username, userRepository::findAuthUserByUsername)).isEmpty();
+		User user = userRepository.save(User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("{noop}password123")
+				.name("Cache Test")
+				.build());
+		assertThat(userDetailsCache.get(username, userRepository::findAuthUserByUsername)).isPresent();
+
+		user.setEnabled(false);
+		userRepository.save(user);
+
+		assertThat(userDetailsCache.get(username, userRepository::findAuthUserByUsername))
+				.hasValueSatisfying(cached -> assertThat(cached.isEnabled()).isFalse());
+	}
+}
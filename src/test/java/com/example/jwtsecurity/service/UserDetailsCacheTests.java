@@ -0,0 +1,108 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDetailsCacheTests {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private UserDetailsCache cache;
+
+	private Optional<User> stored;
+
+	// DB처럼 대소문자를 구분하지 않고 조회
+	private final Function<String, Optional<User>> loader = username -> {
+		loads.incrementAndGet();
+		return stored.filter(user -> user.getUsername().equalsIgnoreCase(username));
+	};
+
+	@BeforeEach
+	void setUp() {
+		cache = new UserDetailsCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 100L);
+		ReflectionTestUtils.setField(cache, "ttl", 60000L);
+		ReflectionTestUtils.setField(cache, "negativeTtl", 100L);
+		ReflectionTestUtils.setField(cache, "readYourWritesWindow", 5000L);
+		cache.init();
+		stored = Optional.of(user("alice", "hash-1"));
+	}
+
+	@Test
+	void loadsOnceAndServesHits() {
+		assertThat(cache.get("alice", loader)).isPresent();
+		assertThat(cache.get("alice", loader)).isPresent();
+
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getStats().hitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void sharesEntryAcrossCase() {
+		cache.get("Alice", loader);
+
+		assertThat(cache.get("ALICE", loader)).isPresent();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void negativeEntryExpiresAfterNegativeTtl() throws InterruptedException {
+		assertThat(cache.get("bob", loader)).isEmpty();
+		assertThat(cache.get("bob", loader)).isEmpty();
+		assertThat(loads).hasValue(1);
+
+		Thread.sleep(150);
+		stored = Optional.of(user("bob", "hash-1"));
+
+		assertThat(cache.get("bob", loader)).isPresent();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void invalidateEvictsEntryCachedWithDifferentCase() {
+		cache.get("Alice", loader);
+		stored = Optional.of(user("alice", "hash-2"));
+
+		cache.invalidate("alice");
+
+		assertThat(cache.get("Alice", loader)).map(User::getPassword).contains("hash-2");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void invalidateEvictsNegativeEntry() {
+		stored = Optional.empty();
+		cache.get("carol", loader);
+		stored = Optional.of(user("carol", "hash-1"));
+
+		cache.invalidate("Carol");
+
+		assertThat(cache.get("carol", loader)).isPresent();
+	}
+
+	@Test
+	void bypassesCacheWhenDisabled() {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+
+		cache.get("alice", loader);
+		cache.get("alice", loader);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	private static User user(String username, String password) {
+		return User.builder()
+				.username(username)
+				.password(password)
+				.build();
+	}
+}
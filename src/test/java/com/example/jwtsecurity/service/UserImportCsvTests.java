@@ -0,0 +1,43 @@
+package com.example.jwtsecurity.service;
+
+import com.example.jwtsecurity.exception.InvalidImportException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserImportCsvTests {
+
+	@Test
+	void splitsPlainFields() {
+		assertThat(UserImportService.parseCsvLine("alice,alice@example.com,password123,Alice"))
+				.containsExactly("alice", "alice@example.com", "password123", "Alice");
+	}
+
+	@Test
+	void keepsCommasInsideQuotes() {
+		assertThat(UserImportService.parseCsvLine("bob,bob@example.com,\"pa,ss\",\"Kim, Bob\""))
+				.containsExactly("bob", "bob@example.com", "pa,ss", "Kim, Bob");
+	}
+
+	@Test
+	void unescapesDoubledQuotes() {
+		assertThat(UserImportService.parseCsvLine("carol,\"say \"\"hi\"\"\",\"\"\"\",\"\""))
+				.containsExactly("carol", "say \"hi\"", "\"", "");
+	}
+
+	@Test
+	void keepsEmptyFields() {
+		List<String> fields = UserImportService.parseCsvLine(",,,");
+		assertThat(fields).containsExactly("", "", "", "");
+	}
+
+	@Test
+	void rejectsUnterminatedQuote() {
+		assertThatThrownBy(() -> UserImportService.parseCsvLine("dave,\"dave@example.com,password123,Dave"))
+				.isInstanceOf(InvalidImportException.class)
+				.hasMessage("닫히지 않은 큰따옴표가 있습니다.");
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.jwtsecurity.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CookieUtilTests {
+
+	private final CookieUtil cookieUtil = new CookieUtil();
+
+	@Test
+	void findsCookieAmongOthers() {
+		assertThat(CookieUtil.findCookieValue("theme=dark; accessToken=abc.def; lang=ko", "accessToken"))
+				.isEqualTo("abc.def");
+	}
+
+	@Test
+	void ignoresCookiesSharingNamePrefixOrSuffix() {
+		assertThat(CookieUtil.findCookieValue("xaccessToken=evil; accessTokenX=evil2; accessToken=good", "accessToken"))
+				.isEqualTo("good");
+		assertThat(CookieUtil.findCookieValue("xaccessToken=evil", "accessToken")).isNull();
+	}
+
+	@Test
+	void returnsEmptyValue() {
+		assertThat(CookieUtil.findCookieValue("accessToken=; lang=ko", "accessToken")).isEmpty();
+		assertThat(CookieUtil.findCookieValue("accessToken=", "accessToken")).isEmpty();
+	}
+
+	@Test
+	void stripsQuotesAndWhitespace() {
+		assertThat(CookieUtil.findCookieValue("lang=ko;\taccessToken=\"abc\"  ", "accessToken"))
+				.isEqualTo("abc");
+	}
+
+	@Test
+	void returnsNullWhenMissing() {
+		assertThat(CookieUtil.findCookieValue("", "accessToken")).isNull();
+		assertThat(CookieUtil.findCookieValue("accessToken", "accessToken")).isNull();
+	}
+
+	@Test
+	void searchesEveryCookieHeader() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.COOKIE, "theme=dark");
+		request.addHeader(HttpHeaders.COOKIE, "xaccessToken=evil");
+		request.addHeader(HttpHeaders.COOKIE, "accessToken=second; refreshToken=r1");
+
+		assertThat(cookieUtil.getJwtFromCookie(request)).contains("second");
+		assertThat(cookieUtil.getRefreshTokenFromCookie(request)).contains("r1");
+	}
+
+	@Test
+	void returnsEmptyWithoutCookieHeader() {
+		assertThat(cookieUtil.getJwtFromCookie(new MockHttpServletRequest())).isEmpty();
+	}
+}
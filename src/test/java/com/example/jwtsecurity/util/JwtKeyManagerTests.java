@@ -0,0 +1,61 @@
+package com.example.jwtsecurity.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyManagerTests {
+
+	private static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+
+	@Test
+	void hmacKeyIdIsDerivedFromSecret() {
+		JwtKeyManager first = hmacKeyManager(SECRET);
+		JwtKeyManager second = hmacKeyManager(SECRET);
+
+		assertThat(first.getKeyId()).startsWith("hmac-").isEqualTo(second.getKeyId());
+		assertThat(hmacKeyManager(SECRET + "-other").getKeyId()).isNotEqualTo(first.getKeyId());
+	}
+
+	@Test
+	void tokenIssuedOnOneInstanceVerifiesOnAnother() {
+		JwtKeyManager issuer = hmacKeyManager(SECRET);
+		JwtKeyManager verifier = hmacKeyManager(SECRET);
+
+		String token = sign(issuer, "alice");
+
+		assertThat(verifier.getParser().parseSignedClaims(token).getPayload().getSubject()).isEqualTo("alice");
+	}
+
+	@Test
+	void tokenFromDifferentSecretIsRejected() {
+		String token = sign(hmacKeyManager(SECRET + "-other"), "alice");
+
+		assertThatThrownBy(() -> hmacKeyManager(SECRET).getParser().parseSignedClaims(token))
+				.isInstanceOf(UnsupportedJwtException.class);
+	}
+
+	private static JwtKeyManager hmacKeyManager(String secret) {
+		JwtKeyManager keyManager = new JwtKeyManager();
+		ReflectionTestUtils.setField(keyManager, "secret", secret);
+		ReflectionTestUtils.setField(keyManager, "algorithm", "HMAC");
+		ReflectionTestUtils.setField(keyManager, "tokenLifetime", 900000L);
+		keyManager.init();
+		return keyManager;
+	}
+
+	private static String sign(JwtKeyManager keyManager, String subject) {
+		return Jwts.builder()
+				.header().keyId(keyManager.getKeyId()).and()
+				.subject(subject)
+				.expiration(new Date(System.currentTimeMillis() + 60000))
+				.signWith(keyManager.getSigningKey())
+				.compact();
+	}
+}
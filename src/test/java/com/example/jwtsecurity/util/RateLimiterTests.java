@@ -0,0 +1,62 @@
+package com.example.jwtsecurity.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+	@Test
+	void allowsBurstUpToCapacity() {
+		RateLimiter limiter = new RateLimiter(3, 60000, 100);
+
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isZero();
+		// 버킷이 비면 다음 토큰까지 남은 시간(최대 refill-interval)을 반환
+		assertThat(limiter.tryAcquire("a"))
+				.isPositive()
+				.isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(60000));
+	}
+
+	@Test
+	void keysHaveSeparateBuckets() {
+		RateLimiter limiter = new RateLimiter(1, 60000, 100);
+
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isPositive();
+		assertThat(limiter.tryAcquire("b")).isZero();
+		assertThat(limiter.getKeyCount()).isEqualTo(2);
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() throws InterruptedException {
+		RateLimiter limiter = new RateLimiter(2, 200, 100);
+		limiter.tryAcquire("a");
+		limiter.tryAcquire("a");
+		long waitNanos = limiter.tryAcquire("a");
+		assertThat(waitNanos).isPositive();
+
+		TimeUnit.NANOSECONDS.sleep(waitNanos + TimeUnit.MILLISECONDS.toNanos(20));
+
+		// 한 간격만큼 기다리면 토큰 하나만 다시 생김
+		assertThat(limiter.tryAcquire("a")).isZero();
+		assertThat(limiter.tryAcquire("a")).isPositive();
+	}
+
+	@Test
+	void rejectedAttemptsDoNotConsumeTokens() throws InterruptedException {
+		RateLimiter limiter = new RateLimiter(1, 200, 100);
+		limiter.tryAcquire("a");
+		long firstWait = limiter.tryAcquire("a");
+		long secondWait = limiter.tryAcquire("a");
+
+		// 거부된 시도는 대기 시간을 늘리지 않음
+		assertThat(secondWait).isLessThanOrEqualTo(firstWait);
+
+		TimeUnit.NANOSECONDS.sleep(firstWait + TimeUnit.MILLISECONDS.toNanos(20));
+		assertThat(limiter.tryAcquire("a")).isZero();
+	}
+}